@@ -0,0 +1,161 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.json.Json;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+
+/**
+ * The results of the benchmarks compared with their baseline.
+ *
+ * <p>Run it with {@code mvn exec:java@jmh-compare -Pjmh}, after the
+ * benchmarks, see {@link MonosBench} and {@link TojosBench}. Every
+ * benchmark found in both JSON files, with the same parameters, is logged
+ * with both scores, while the others are ignored. If any of them is worse
+ * than in the baseline by more than the tolerance, in percents, and by more
+ * than the error of the score in the baseline, the comparison fails.</p>
+ *
+ * @since 1.0
+ */
+@SuppressWarnings({
+    "JTCOP.RuleAllTestsHaveProductionClass",
+    "JTCOP.RuleCorrectTestName"
+})
+public final class Baseline {
+
+    /**
+     * The results of the baseline.
+     */
+    private final Path before;
+
+    /**
+     * The results to compare with them.
+     */
+    private final Path after;
+
+    /**
+     * How much worse a score may be, in percents.
+     */
+    private final double tolerance;
+
+    /**
+     * Ctor.
+     * @param base The results of the baseline
+     * @param now The results to compare with them
+     * @param percents How much worse a score may be, in percents
+     */
+    public Baseline(final Path base, final Path now, final double percents) {
+        this.before = base;
+        this.after = now;
+        this.tolerance = percents;
+    }
+
+    /**
+     * Compare the results given in the command line.
+     * @param args The baseline, the results, and the tolerance in percents
+     */
+    public static void main(final String... args) {
+        new Baseline(
+            Paths.get(args[0]), Paths.get(args[1]), Double.parseDouble(args[2])
+        ).compare();
+    }
+
+    /**
+     * Compare them, failing if any score is worse than the tolerance allows.
+     */
+    public void compare() {
+        final Map<String, JsonObject> base = Baseline.results(this.before);
+        final Collection<String> worse = new ArrayList<>(0);
+        final Logger log = Logger.getLogger(Baseline.class.getName());
+        for (final Map.Entry<String, JsonObject> now
+            : Baseline.results(this.after).entrySet()) {
+            final JsonObject was = base.get(now.getKey());
+            if (was != null) {
+                final double old = Baseline.score(was);
+                final double score = Baseline.score(now.getValue());
+                final double change = (score - old) * 100.0 / old;
+                double loss = change;
+                if ("thrpt".equals(now.getValue().getString("mode"))) {
+                    loss = -change;
+                }
+                log.log(
+                    Level.INFO,
+                    String.format(
+                        "%s: %.3f -> %.3f %s (%+.1f%%)",
+                        now.getKey(), old, score,
+                        now.getValue().getJsonObject("primaryMetric").getString("scoreUnit"),
+                        change
+                    )
+                );
+                if (loss > this.tolerance && Math.abs(score - old) > Baseline.error(was)) {
+                    worse.add(now.getKey());
+                }
+            }
+        }
+        if (!worse.isEmpty()) {
+            throw new IllegalStateException(
+                String.format(
+                    "%d benchmark(s) are worse than in '%s' by more than %.0f%%: %s",
+                    worse.size(), this.before, this.tolerance, worse
+                )
+            );
+        }
+    }
+
+    private static Map<String, JsonObject> results(final Path path) {
+        final Map<String, JsonObject> results = new TreeMap<>();
+        try (Reader input = Files.newBufferedReader(path);
+            JsonReader json = Json.createReader(input)) {
+            for (final JsonValue value : json.readArray()) {
+                final JsonObject result = value.asJsonObject();
+                final StringBuilder name = new StringBuilder(
+                    result.getString("benchmark")
+                );
+                if (result.containsKey("params")) {
+                    for (final Map.Entry<String, JsonValue> param
+                        : new TreeMap<>(result.getJsonObject("params")).entrySet()) {
+                        name.append(' ').append(param.getKey()).append('=')
+                            .append(((JsonString) param.getValue()).getString());
+                    }
+                }
+                results.put(name.toString(), result);
+            }
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException(
+                String.format("Failed to read JMH results from '%s'", path),
+                ex
+            );
+        }
+        return results;
+    }
+
+    private static double score(final JsonObject result) {
+        return result.getJsonObject("primaryMetric").getJsonNumber("score").doubleValue();
+    }
+
+    private static double error(final JsonObject result) {
+        final JsonValue error = result.getJsonObject("primaryMetric").get("scoreError");
+        double value = 0.0;
+        if (error instanceof JsonNumber) {
+            value = ((JsonNumber) error).doubleValue();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of reading and writing all rows of every {@link Mono}.
+ *
+ * <p>Run it with {@code mvn test-compile exec:exec -Pjmh}. The class can't
+ * be final, since JMH extends it.</p>
+ *
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@SuppressWarnings({
+    "JTCOP.RuleAllTestsHaveProductionClass",
+    "JTCOP.RuleCorrectTestName"
+})
+public class MonosBench {
+
+    /**
+     * The format of the mono.
+     */
+    @Param({"csv", "json", "yaml", "tabs", "binary", "memory"})
+    public String format;
+
+    /**
+     * How many rows are in it.
+     */
+    @Param({"1000", "100000", "1000000"})
+    public int total;
+
+    /**
+     * The directory with the file.
+     */
+    private Path home;
+
+    /**
+     * The mono.
+     */
+    private Mono mono;
+
+    /**
+     * The rows to write.
+     */
+    private Collection<Map<String, String>> rows;
+
+    /**
+     * Make the mono and write the rows into it.
+     * @throws IOException If fails
+     */
+    @Setup(Level.Trial)
+    public void up() throws IOException {
+        this.home = Files.createTempDirectory("tojos");
+        this.mono = MonosBench.mono(this.format, this.home);
+        this.rows = MonosBench.rows(this.total);
+        this.mono.write(this.rows);
+    }
+
+    /**
+     * Remove the file.
+     * @throws IOException If fails
+     */
+    @TearDown(Level.Trial)
+    public void down() throws IOException {
+        this.mono.close();
+        try (Stream<Path> files = Files.walk(this.home)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Read all rows.
+     * @return The rows read
+     */
+    @Benchmark
+    public Collection<Map<String, String>> reads() {
+        return this.mono.read();
+    }
+
+    /**
+     * Write all rows.
+     */
+    @Benchmark
+    public void writes() {
+        this.mono.write(this.rows);
+    }
+
+    /**
+     * Make a mono of the given format.
+     * @param format The format
+     * @param home The directory for the file
+     * @return The mono
+     */
+    static Mono mono(final String format, final Path home) {
+        final Mono mono;
+        if ("csv".equals(format)) {
+            mono = new MnCsv(home.resolve("bench.csv"));
+        } else if ("json".equals(format)) {
+            mono = new MnJson(home.resolve("bench.json"));
+        } else if ("yaml".equals(format)) {
+            mono = new MnYaml(home.resolve("bench.yaml"));
+        } else if ("tabs".equals(format)) {
+            mono = new MnTabs(home.resolve("bench.tabs"));
+        } else if ("binary".equals(format)) {
+            mono = new MnBinary(home.resolve("bench.bin"));
+        } else if ("memory".equals(format)) {
+            mono = new MnMemory();
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Unknown format '%s'", format)
+            );
+        }
+        return mono;
+    }
+
+    /**
+     * Make rows, each with an id and a few attributes.
+     * @param total How many of them
+     * @return The rows
+     */
+    static Collection<Map<String, String>> rows(final int total) {
+        final Collection<Map<String, String>> rows = new ArrayList<>(total);
+        for (int idx = 0; idx < total; ++idx) {
+            final Map<String, String> row = new HashMap<>(4);
+            row.put(Tojos.ID_KEY, String.format("row-%d", idx));
+            row.put("status", MonosBench.status(idx));
+            row.put("path", String.format("/tmp/foo/bar/%d.txt", idx));
+            row.put("hash", Integer.toHexString(idx * 31));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * The status of the row.
+     * @param idx The position of the row
+     * @return The status
+     */
+    static String status(final int idx) {
+        final String status;
+        if (idx % 10 == 0) {
+            status = "pending";
+        } else {
+            status = "done";
+        }
+        return status;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of {@link Tojos#add(String)}, {@link Tojos#select} and
+ * {@link Tojo#set(String, Object)} through every {@link Tojos}.
+ *
+ * <p>The rows are kept in {@link MnMemory}, so that only the tojos are
+ * measured, not the format of a file. Run it with
+ * {@code mvn test-compile exec:exec -Pjmh}. The class can't be final,
+ * since JMH extends it.</p>
+ *
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@SuppressWarnings({
+    "JTCOP.RuleAllTestsHaveProductionClass",
+    "JTCOP.RuleCorrectTestName"
+})
+public class TojosBench {
+
+    /**
+     * The tojos to measure.
+     */
+    @Param({"default", "cached", "deferred", "synchronized"})
+    public String decorator;
+
+    /**
+     * How many rows are there.
+     */
+    @Param({"1000", "100000"})
+    public int total;
+
+    /**
+     * The tojos.
+     */
+    private Tojos tojos;
+
+    /**
+     * All of them, selected once.
+     */
+    private List<Tojo> all;
+
+    /**
+     * The position of the next tojo to touch.
+     */
+    private int next;
+
+    /**
+     * Make the tojos and fill them with rows.
+     */
+    @Setup(Level.Iteration)
+    public void up() {
+        final Mono mono = new MnMemory();
+        mono.write(MonosBench.rows(this.total));
+        this.tojos = TojosBench.tojos(this.decorator, mono);
+        this.all = this.tojos.select(t -> true);
+        this.next = 0;
+    }
+
+    /**
+     * Add a tojo that is already there.
+     * @return The tojo
+     */
+    @Benchmark
+    public Tojo adds() {
+        return this.tojos.add(String.format("row-%d", this.position()));
+    }
+
+    /**
+     * Select the tojos with the given status.
+     * @return The tojos selected
+     */
+    @Benchmark
+    public List<Tojo> selects() {
+        return this.tojos.select(t -> "pending".equals(t.get("status")));
+    }
+
+    /**
+     * Set an attribute of a tojo.
+     * @return The tojo
+     */
+    @Benchmark
+    public Tojo sets() {
+        return this.all.get(this.position()).set("status", "done");
+    }
+
+    private static Tojos tojos(final String decorator, final Mono mono) {
+        final Tojos tojos;
+        if ("default".equals(decorator)) {
+            tojos = new TjDefault(mono);
+        } else if ("cached".equals(decorator)) {
+            tojos = new TjCached(new TjDefault(mono));
+        } else if ("deferred".equals(decorator)) {
+            tojos = new TjDeferred(mono);
+        } else if ("synchronized".equals(decorator)) {
+            tojos = new TjSynchronized(new TjDefault(new MnSynchronized(mono)));
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Unknown tojos '%s'", decorator)
+            );
+        }
+        return tojos;
+    }
+
+    private int position() {
+        this.next = (this.next + 1) % this.total;
+        return this.next;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ids of tojos, by values of some of their attributes.
+ *
+ * <p>For every key given, it knows which tojos have which value of it,
+ * so that {@link TjCached} finds the tojos that pass a {@link Filter} on
+ * this key by testing every distinct value once, instead of every tojo.
+ * It has to be told about every row added, and every value of an indexed
+ * key has to be changed through it.</p>
+ *
+ * <p>The class is thread-safe: changes wait for each other, while
+ * lookups don't wait at all.</p>
+ *
+ * @since 1.0
+ */
+final class Attributes {
+
+    /**
+     * Ids of tojos, by values, by keys.
+     */
+    private final Map<String, Map<String, Set<String>>> ids;
+
+    /**
+     * Values, by ids of tojos, by keys.
+     */
+    private final Map<String, Map<String, String>> values;
+
+    /**
+     * Lock for changes.
+     */
+    private final ReentrantLock lock;
+
+    /**
+     * Ctor.
+     * @param keys The keys to index
+     */
+    Attributes(final String... keys) {
+        // @checkstyle ConstructorsCodeFreeCheck (1 line)
+        this.ids = Attributes.empty(keys);
+        // @checkstyle ConstructorsCodeFreeCheck (1 line)
+        this.values = Attributes.empty(keys);
+        this.lock = new ReentrantLock();
+    }
+
+    /**
+     * Is this key indexed?
+     * @param key The key
+     * @return TRUE if it is
+     */
+    boolean covers(final String key) {
+        return this.ids.containsKey(key);
+    }
+
+    /**
+     * A row was added, or loaded again.
+     *
+     * <p>The values that were known for its id before are forgotten.</p>
+     *
+     * @param row The row, with its id
+     */
+    void added(final Map<String, String> row) {
+        final String id = row.get(Tojos.ID_KEY);
+        if (!this.ids.isEmpty() && id != null) {
+            this.lock.lock();
+            try {
+                for (final String key : this.ids.keySet()) {
+                    this.moved(id, key, row.get(key));
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Change the value of the key in the row.
+     * @param row The row, with its id
+     * @param key The key
+     * @param value The value
+     */
+    void put(final Map<String, String> row, final String key, final String value) {
+        if (this.covers(key)) {
+            this.lock.lock();
+            try {
+                row.put(key, value);
+                final String id = row.get(Tojos.ID_KEY);
+                if (id != null) {
+                    this.moved(id, key, value);
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        } else {
+            row.put(key, value);
+        }
+    }
+
+    /**
+     * Ids of the tojos that pass the filter on an indexed key.
+     * @param filter The filter
+     * @return The ids
+     */
+    Collection<String> matching(final Filter filter) {
+        final Collection<String> found = new LinkedHashSet<>(0);
+        for (final Map.Entry<String, Set<String>> ent
+            : this.ids.getOrDefault(filter.key(), Collections.emptyMap()).entrySet()) {
+            if (filter.passes(ent.getKey())) {
+                found.addAll(ent.getValue());
+            }
+        }
+        return found;
+    }
+
+    private void moved(final String id, final String key, final String after) {
+        final Map<String, String> known = this.values.get(key);
+        final String before;
+        if (after == null) {
+            before = known.remove(id);
+        } else {
+            before = known.put(id, after);
+        }
+        if (!Objects.equals(before, after)) {
+            final Map<String, Set<String>> found = this.ids.get(key);
+            if (before != null) {
+                final Set<String> old = found.get(before);
+                if (old != null) {
+                    old.remove(id);
+                    if (old.isEmpty()) {
+                        found.remove(before);
+                    }
+                }
+            }
+            if (after != null) {
+                found.computeIfAbsent(after, value -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+    }
+
+    private static <T> Map<String, Map<String, T>> empty(final String... keys) {
+        final Map<String, Map<String, T>> map = new ConcurrentHashMap<>(keys.length);
+        for (final String key : keys) {
+            map.put(key, new ConcurrentHashMap<>(0));
+        }
+        return map;
+    }
+}
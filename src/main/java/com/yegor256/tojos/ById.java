@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.function.Predicate;
+
+/**
+ * The filter that lets through only the tojo with the given id.
+ *
+ * <p>It works as any other predicate given to
+ * {@link Tojos#select(Predicate)}, but those {@link Tojos} that keep their
+ * tojos by id may recognize it and find the tojo without testing every
+ * one of them.</p>
+ *
+ * @since 1.0
+ */
+final class ById implements Predicate<Tojo> {
+
+    /**
+     * The id to look for.
+     */
+    private final String name;
+
+    /**
+     * Ctor.
+     * @param nme The id to look for
+     */
+    ById(final String nme) {
+        this.name = nme;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+
+    /**
+     * The id it looks for.
+     * @return The id
+     */
+    String id() {
+        return this.name;
+    }
+
+    @Override
+    public boolean test(final Tojo tojo) {
+        return this.name.equals(tojo.get(Tojos.ID_KEY));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * How {@link MnCsv} reads and prints the lines of its file.
+ *
+ * <p>It is either {@link OpenCsv}, which needs OpenCSV in the classpath,
+ * or {@link Rfc4180}, which doesn't. Implementations must be thread-safe,
+ * while the lines and printers they make may be not.</p>
+ *
+ * @since 1.0
+ */
+interface Csv {
+
+    /**
+     * Lines of this reader.
+     * @param reader The reader, which is closed by the caller
+     * @return The lines
+     */
+    Csv.Lines lines(Reader reader);
+
+    /**
+     * Printer of lines to this writer.
+     * @param writer The writer, which is closed by the caller
+     * @return The printer
+     */
+    Csv.Printer printer(Writer writer);
+
+    /**
+     * Lines of a CSV file, one after another.
+     *
+     * @since 1.0
+     */
+    @FunctionalInterface
+    interface Lines {
+
+        /**
+         * Read the next line.
+         * @return Its cells or NULL if there are no more lines
+         * @throws IOException If fails
+         */
+        String[] next() throws IOException;
+    }
+
+    /**
+     * Printer of lines of a CSV file.
+     *
+     * @since 1.0
+     */
+    @FunctionalInterface
+    interface Printer {
+
+        /**
+         * Print one line.
+         * @param cells Its cells
+         * @throws IOException If fails
+         */
+        void print(String... cells) throws IOException;
+    }
+}
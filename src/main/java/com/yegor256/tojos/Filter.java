@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.function.Predicate;
+
+/**
+ * The filter for {@link Tojos#select(Predicate)} that looks at one key.
+ *
+ * <p>It works as any other predicate, but {@link TjDefault} recognizes it
+ * and lets its {@link Mono} skip the rows that don't pass and the cells
+ * of other keys, while reading them, see
+ * {@link Mono#stream(java.util.Set, String, Predicate)}. Only tojos that
+ * have the key may pass.</p>
+ *
+ * @since 1.0
+ */
+public interface Filter extends Predicate<Tojo> {
+
+    /**
+     * The key it looks at.
+     * @return The key
+     */
+    String key();
+
+    /**
+     * Does the tojo with this value of the key pass?
+     * @param value The value
+     * @return TRUE if it passes
+     */
+    boolean passes(String value);
+
+    @Override
+    default boolean test(final Tojo tojo) {
+        final String value = tojo.toMap().get(this.key());
+        return value != null && this.passes(value);
+    }
+}
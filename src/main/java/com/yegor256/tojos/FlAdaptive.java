@@ -0,0 +1,109 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Flush as soon as enough was written, but not too often for a slow origin.
+ *
+ * <p>The flush happens right away when the writes since the previous one
+ * reach the given number, or when the rows they changed reach the given
+ * size, which is estimated by the length of their keys and values. Otherwise
+ * it happens in the given time after the first write. Either way, it doesn't
+ * happen sooner than four times the duration of the previous flush after its
+ * end, so that a slow origin is busy with writing no more than a fifth of
+ * the time.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+public final class FlAdaptive implements Flush {
+
+    /**
+     * How many times the flush duration to wait after it.
+     */
+    private static final long RATIO = 4L;
+
+    /**
+     * Max number of writes before the flush.
+     */
+    private final int writes;
+
+    /**
+     * Max estimated size of changes before the flush.
+     */
+    private final long bytes;
+
+    /**
+     * Max delay between the first write and the flush, in milliseconds.
+     */
+    private final long delay;
+
+    /**
+     * Writes since the previous flush.
+     */
+    private final AtomicInteger count;
+
+    /**
+     * Estimated size of changes since the previous flush.
+     */
+    private final AtomicLong size;
+
+    /**
+     * When the next flush may start, in milliseconds since the epoch.
+     */
+    private final AtomicLong free;
+
+    /**
+     * Ctor.
+     */
+    public FlAdaptive() {
+        this(1000, 1L << 20, 1000L);
+    }
+
+    /**
+     * Ctor.
+     * @param total Max number of writes before the flush
+     * @param max Max estimated size of changes before the flush, in bytes
+     * @param msec Max delay between the first write and the flush, in milliseconds
+     */
+    public FlAdaptive(final int total, final long max, final long msec) {
+        this.writes = total;
+        this.bytes = max;
+        this.delay = msec;
+        this.count = new AtomicInteger();
+        this.size = new AtomicLong();
+        this.free = new AtomicLong();
+    }
+
+    @Override
+    public long written(final Collection<Map<String, String>> changed) {
+        long delta = 0L;
+        for (final Map<String, String> row : changed) {
+            for (final Map.Entry<String, String> ent : row.entrySet()) {
+                delta += ent.getKey().length() + ent.getValue().length() + 2L;
+            }
+        }
+        final boolean many = this.count.incrementAndGet() >= this.writes;
+        final boolean big = this.size.addAndGet(delta) >= this.bytes;
+        long wait = this.delay;
+        if (many || big) {
+            wait = 0L;
+        }
+        return Math.max(wait, this.free.get() - System.currentTimeMillis());
+    }
+
+    @Override
+    public void flushed(final long msec) {
+        this.count.set(0);
+        this.size.set(0L);
+        this.free.set(System.currentTimeMillis() + msec * FlAdaptive.RATIO);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Flush in a fixed time after the first write.
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+public final class FlFixed implements Flush {
+
+    /**
+     * Delay, in milliseconds.
+     */
+    private final long delay;
+
+    /**
+     * Ctor.
+     * @param msec Delay between the first write and the flush, in milliseconds
+     */
+    public FlFixed(final long msec) {
+        this.delay = msec;
+    }
+
+    @Override
+    public long written(final Collection<Map<String, String>> changed) {
+        return this.delay;
+    }
+
+    @Override
+    public void flushed(final long msec) {
+        // nothing to remember here
+    }
+}
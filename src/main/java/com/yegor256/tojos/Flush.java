@@ -0,0 +1,32 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * When to flush what was written, for {@link MnPostponed}.
+ *
+ * <p>It is told about every write and every flush, and decides how soon
+ * the next flush must happen. Implementations must be thread-safe.</p>
+ *
+ * @since 1.0
+ */
+public interface Flush {
+
+    /**
+     * A write was made.
+     * @param changed The rows changed, or none if all of them were written
+     * @return How many milliseconds from now to flush, at the latest
+     */
+    long written(Collection<Map<String, String>> changed);
+
+    /**
+     * A flush was made.
+     * @param msec How long the flush took, in milliseconds
+     */
+    void flushed(long msec);
+}
@@ -0,0 +1,45 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+/**
+ * The tojos where the key has the given value.
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+public final class FtEquals implements Filter {
+
+    /**
+     * The key.
+     */
+    private final String name;
+
+    /**
+     * The value.
+     */
+    private final String expected;
+
+    /**
+     * Ctor.
+     * @param key The key
+     * @param value The value
+     */
+    public FtEquals(final String key, final String value) {
+        this.name = key;
+        this.expected = value;
+    }
+
+    @Override
+    public String key() {
+        return this.name;
+    }
+
+    @Override
+    public boolean passes(final String value) {
+        return this.expected.equals(value);
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+/**
+ * The tojos that have the key, with any value.
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+public final class FtExists implements Filter {
+
+    /**
+     * The key.
+     */
+    private final String name;
+
+    /**
+     * Ctor.
+     * @param key The key
+     */
+    public FtExists(final String key) {
+        this.name = key;
+    }
+
+    @Override
+    public String key() {
+        return this.name;
+    }
+
+    @Override
+    public boolean passes(final String value) {
+        return true;
+    }
+}
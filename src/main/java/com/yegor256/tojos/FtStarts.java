@@ -0,0 +1,45 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+/**
+ * The tojos where the value of the key starts with the given prefix.
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+public final class FtStarts implements Filter {
+
+    /**
+     * The key.
+     */
+    private final String name;
+
+    /**
+     * The prefix.
+     */
+    private final String start;
+
+    /**
+     * Ctor.
+     * @param key The key
+     * @param prefix The prefix
+     */
+    public FtStarts(final String key, final String prefix) {
+        this.name = key;
+        this.start = prefix;
+    }
+
+    @Override
+    public String key() {
+        return this.name;
+    }
+
+    @Override
+    public boolean passes(final String value) {
+        return value.startsWith(this.start);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Positions of rows in a {@link Mono}, by their ids.
+ *
+ * <p>The mono gives its rows back as a fresh collection every time it is
+ * read, so the index can't keep the rows themselves. It keeps where each of
+ * them was the last time it looked, and checks the id at that place before
+ * trusting it: finding a row that didn't move is one comparison, not a scan
+ * of the whole mono. Only when the check fails, because someone else added
+ * or removed rows, the positions are taken again in one pass. An id that
+ * is not in the index is absent, without another pass, only while the rows
+ * are the same collection the index has seen, with as many rows as it has
+ * seen, so adding new rows one by one doesn't take the positions again
+ * every time. Rows read again are another collection, even if there are as
+ * many of them as before, so their positions are taken again, since their
+ * ids may differ.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+final class Index {
+
+    /**
+     * Positions of rows, by id.
+     */
+    private final Map<String, Integer> positions;
+
+    /**
+     * How many rows there were when all of them were indexed, or -1.
+     */
+    private final AtomicInteger covered;
+
+    /**
+     * The rows that were indexed last time.
+     */
+    private final AtomicReference<Collection<Map<String, String>>> seen;
+
+    /**
+     * Ctor.
+     */
+    Index() {
+        this.positions = new ConcurrentHashMap<>(0);
+        this.covered = new AtomicInteger(-1);
+        this.seen = new AtomicReference<>(Collections.emptyList());
+    }
+
+    /**
+     * Find the row with this id.
+     * @param rows All rows of the mono, as they were just read
+     * @param name The id of the row
+     * @return The row, if it is there
+     */
+    Optional<Map<String, String>> find(final Collection<Map<String, String>> rows,
+        final String name) {
+        final List<Map<String, String>> list = Index.listed(rows);
+        Optional<Map<String, String>> found = this.at(list, name);
+        if (!found.isPresent() && this.stale(rows, list, name)) {
+            this.positions.clear();
+            int pos = 0;
+            for (final Map<String, String> row : list) {
+                final String id = row.get(Tojos.ID_KEY);
+                if (id != null) {
+                    this.positions.putIfAbsent(id, pos);
+                }
+                ++pos;
+            }
+            this.covered.set(list.size());
+            this.seen.set(rows);
+            found = this.at(list, name);
+        }
+        return found;
+    }
+
+    /**
+     * Remember that the row with this id was just added to the end.
+     * @param rows All rows of the mono, with the new one as the last
+     * @param name The id of the row added
+     */
+    void added(final Collection<Map<String, String>> rows, final String name) {
+        this.positions.put(name, rows.size() - 1);
+        if (this.seen.get() == rows && this.covered.get() == rows.size() - 1) {
+            this.covered.set(rows.size());
+        }
+    }
+
+    private boolean stale(final Collection<Map<String, String>> rows,
+        final List<Map<String, String>> list, final String name) {
+        return this.positions.containsKey(name) || this.seen.get() != rows
+            || this.covered.get() != list.size();
+    }
+
+    private Optional<Map<String, String>> at(final List<Map<String, String>> list,
+        final String name) {
+        final Integer pos = this.positions.get(name);
+        Optional<Map<String, String>> found = Optional.empty();
+        if (pos != null && pos < list.size()) {
+            final Map<String, String> row = list.get(pos);
+            if (name.equals(row.get(Tojos.ID_KEY))) {
+                found = Optional.of(row);
+            }
+        }
+        return found;
+    }
+
+    private static List<Map<String, String>> listed(
+        final Collection<Map<String, String>> rows) {
+        final List<Map<String, String>> list;
+        if (rows instanceof List) {
+            list = (List<Map<String, String>>) rows;
+        } else {
+            list = new ArrayList<>(rows);
+        }
+        return list;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tojos by their ids, no more than the given number of them.
+ *
+ * <p>When there are too many of them, the one least recently put or got
+ * is removed, see {@link TjCached#TjCached(Tojos, int, String...)}.</p>
+ *
+ * <p>The class is NOT thread-safe.</p>
+ *
+ * @since 1.0
+ */
+final class Lru extends LinkedHashMap<String, Tojo> {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 0x544f4a4cL;
+
+    /**
+     * Load factor of the map.
+     */
+    private static final float LOAD = 0.75f;
+
+    /**
+     * How many tojos to keep, at most.
+     */
+    private final int max;
+
+    /**
+     * Ctor.
+     * @param total How many tojos to keep, at most
+     */
+    Lru(final int total) {
+        super(0, Lru.LOAD, true);
+        this.max = total;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<String, Tojo> eldest) {
+        return this.size() > this.max;
+    }
+}
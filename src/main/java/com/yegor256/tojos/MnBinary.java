@@ -0,0 +1,307 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Binary file, where values are kept by columns.
+ *
+ * <p>The file starts with a header: a magic number, the number of rows,
+ * the number of columns, and a directory of columns, with the name of each
+ * one and the position of its section in the file. A section contains all
+ * distinct values of its column, once each, and then, for every row,
+ * the number of its value among them, or minus one if the row doesn't
+ * have this column. Numbers are four-byte big-endian integers, except
+ * the positions of sections, which are eight-byte ones, and texts are
+ * UTF-8 bytes prefixed by their length.</p>
+ *
+ * <p>The file is mapped into memory, see {@link FileChannel#map}, the
+ * header and every section read on its own, so the file may be larger than
+ * two gigabytes, while a section of one column may not: it can't be
+ * written.</p>
+ *
+ * <p>It is read much faster than text formats, since nothing has to be
+ * parsed, and every distinct value becomes a string only once, no matter
+ * how many rows have it. When only some columns are read, the sections of
+ * the others are not even looked at. To convert a file from another format, or back,
+ * read it with one mono and write with another:</p>
+ *
+ * <pre> new MnBinary(Paths.get("a.bin")).write(
+ *   new MnJson(Paths.get("a.json")).read()
+ * );</pre>
+ *
+ * <p>The class is NOT thread-safe.</p>
+ *
+ * @since 1.0
+ */
+public final class MnBinary implements Mono {
+
+    /**
+     * The first four bytes of the file: "TOJB".
+     */
+    private static final int MAGIC = 0x544f4a42;
+
+    /**
+     * The file path.
+     */
+    private final Path file;
+
+    /**
+     * The version of the file.
+     */
+    private final Stamp stamp;
+
+    /**
+     * How to save the file.
+     */
+    private final Save save;
+
+    /**
+     * Ctor.
+     *
+     * <p>If the directory doesn't exist, it will automatically be created.</p>
+     *
+     * @param path The path to the file
+     */
+    public MnBinary(final Path path) {
+        this(path, new SvDirect());
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>If the directory doesn't exist, it will automatically be created.</p>
+     *
+     * @param path The path to the file
+     * @param how How to save the file, for example {@link SvAtomic}
+     * @since 1.0
+     */
+    public MnBinary(final Path path, final Save how) {
+        this.file = path;
+        this.stamp = new Stamp(path);
+        this.save = how;
+    }
+
+    @Override
+    public String toString() {
+        return this.file.toString();
+    }
+
+    @Override
+    public Collection<Map<String, String>> read() {
+        return this.rows(column -> true);
+    }
+
+    @Override
+    public Collection<Map<String, String>> read(final Set<String> columns) {
+        return this.rows(columns::contains);
+    }
+
+    @Override
+    public Optional<String> version() {
+        return Optional.of(this.stamp.version());
+    }
+
+    @Override
+    public void write(final Collection<Map<String, String>> rows) {
+        final Map<String, Map<String, Integer>> dicts = new LinkedHashMap<>(0);
+        final Map<String, int[]> codes = new HashMap<>(0);
+        int pos = 0;
+        for (final Map<String, String> row : rows) {
+            for (final Map.Entry<String, String> ent : row.entrySet()) {
+                final Map<String, Integer> dict = dicts.computeIfAbsent(
+                    ent.getKey(), key -> new LinkedHashMap<>(0)
+                );
+                codes.computeIfAbsent(
+                    ent.getKey(),
+                    key -> {
+                        final int[] all = new int[rows.size()];
+                        Arrays.fill(all, -1);
+                        return all;
+                    }
+                )[pos] = dict.computeIfAbsent(ent.getValue(), value -> dict.size());
+            }
+            ++pos;
+        }
+        this.file.toFile().getParentFile().mkdirs();
+        try {
+            this.save.write(
+                this.file,
+                out -> {
+                    try (DataOutputStream data = new DataOutputStream(out)) {
+                        MnBinary.print(data, rows.size(), dicts, codes);
+                    }
+                }
+            );
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Failed to write %d rows into '%s'",
+                    rows.size(), this.file
+                ),
+                ex
+            );
+        }
+        this.stamp.written();
+    }
+
+    @Override
+    public void close() {
+        // nothing to close here
+    }
+
+    private Collection<Map<String, String>> rows(final Predicate<String> wanted) {
+        final List<Map<String, String>> rows = new ArrayList<>(0);
+        if (Files.exists(this.file)) {
+            try (FileChannel channel = FileChannel.open(this.file)) {
+                final ByteBuffer buf = channel.map(
+                    FileChannel.MapMode.READ_ONLY, 0L,
+                    Math.min(channel.size(), Integer.MAX_VALUE)
+                );
+                if (buf.remaining() < Integer.BYTES || buf.getInt() != MnBinary.MAGIC) {
+                    throw new IllegalArgumentException(
+                        String.format("The file '%s' is not a binary tojos file", this.file)
+                    );
+                }
+                this.parse(channel, buf, rows, wanted);
+            } catch (final IOException ex) {
+                throw new IllegalArgumentException(
+                    String.format("Failed to map binary from '%s'", this.file),
+                    ex
+                );
+            } catch (final BufferUnderflowException | IndexOutOfBoundsException
+                | NegativeArraySizeException ex) {
+                throw new IllegalArgumentException(
+                    String.format("The binary file '%s' is broken", this.file),
+                    ex
+                );
+            }
+        }
+        return rows;
+    }
+
+    private void parse(final FileChannel channel, final ByteBuffer buf,
+        final List<Map<String, String>> rows, final Predicate<String> wanted)
+        throws IOException {
+        final int total = buf.getInt();
+        final int columns = buf.getInt();
+        for (int idx = 0; idx < total; ++idx) {
+            rows.add(new HashMap<>(columns));
+        }
+        final String[] keys = new String[columns];
+        final long[] offsets = new long[columns + 1];
+        for (int col = 0; col < columns; ++col) {
+            keys[col] = MnBinary.text(buf);
+            offsets[col] = buf.getLong();
+        }
+        offsets[columns] = channel.size();
+        for (int col = 0; col < columns; ++col) {
+            if (!wanted.test(keys[col])) {
+                continue;
+            }
+            final long length = offsets[col + 1] - offsets[col];
+            if (offsets[col] < 0L || length < 0L || length > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "The column '%s' in '%s' takes %d bytes at %d, can't map it",
+                        keys[col], this.file, length, offsets[col]
+                    )
+                );
+            }
+            final ByteBuffer section = channel.map(
+                FileChannel.MapMode.READ_ONLY, offsets[col], length
+            );
+            final String[] dict = new String[section.getInt()];
+            for (int idx = 0; idx < dict.length; ++idx) {
+                dict[idx] = MnBinary.text(section);
+            }
+            for (final Map<String, String> row : rows) {
+                final int code = section.getInt();
+                if (code >= 0) {
+                    row.put(keys[col], dict[code]);
+                }
+            }
+        }
+    }
+
+    private static void print(final DataOutputStream out, final int total,
+        final Map<String, Map<String, Integer>> dicts,
+        final Map<String, int[]> codes) throws IOException {
+        final Map<String, List<byte[]>> texts = new LinkedHashMap<>(dicts.size());
+        final Map<String, Long> lengths = new HashMap<>(dicts.size());
+        long offset = Integer.BYTES * 3L;
+        for (final Map.Entry<String, Map<String, Integer>> ent : dicts.entrySet()) {
+            offset += Integer.BYTES + Long.BYTES + MnBinary.bytes(ent.getKey()).length;
+            final List<byte[]> values = new ArrayList<>(ent.getValue().size());
+            long length = Integer.BYTES * (1L + total);
+            for (final String value : ent.getValue().keySet()) {
+                final byte[] text = MnBinary.bytes(value);
+                values.add(text);
+                length += Integer.BYTES + text.length;
+            }
+            if (length > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "The column '%s' takes %d bytes, while %d is the most",
+                        ent.getKey(), length, Integer.MAX_VALUE
+                    )
+                );
+            }
+            texts.put(ent.getKey(), values);
+            lengths.put(ent.getKey(), length);
+        }
+        out.writeInt(MnBinary.MAGIC);
+        out.writeInt(total);
+        out.writeInt(dicts.size());
+        for (final String key : texts.keySet()) {
+            MnBinary.printText(out, MnBinary.bytes(key));
+            out.writeLong(offset);
+            offset += lengths.get(key);
+        }
+        for (final Map.Entry<String, List<byte[]>> ent : texts.entrySet()) {
+            out.writeInt(ent.getValue().size());
+            for (final byte[] value : ent.getValue()) {
+                MnBinary.printText(out, value);
+            }
+            for (final int code : codes.get(ent.getKey())) {
+                out.writeInt(code);
+            }
+        }
+    }
+
+    private static void printText(final DataOutputStream out,
+        final byte[] text) throws IOException {
+        out.writeInt(text.length);
+        out.write(text);
+    }
+
+    private static String text(final ByteBuffer buf) {
+        final byte[] text = new byte[buf.getInt()];
+        buf.get(text);
+        return new String(text, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(final String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -4,41 +4,81 @@
  */
 package com.yegor256.tojos;
 
-import com.opencsv.CSVReader;
-import com.opencsv.CSVReaderBuilder;
-import com.opencsv.CSVWriter;
-import com.opencsv.ICSVWriter;
-import com.opencsv.RFC4180ParserBuilder;
-import com.opencsv.exceptions.CsvValidationException;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * CSV file.
  *
+ * <p>By default, the file is read and printed by OpenCSV, which must be
+ * in the classpath. It may be read and printed without it, by the parser
+ * of RFC 4180 that is built in, which is faster and makes the same files.
+ * The names of columns are interned, so all rows share them, and so may be
+ * the values of cells, if asked.</p>
+ *
  * <p>The class is NOT thread-safe.</p>
  *
- * @see <a href="https://geekprompt.github.io/Properly-handling-backshlash-while-using-openCSV/">Properly
- *  handling backslash while using openCSV</a>
  * @since 0.3.0
  */
 public final class MnCsv implements Mono {
 
+    /**
+     * The filter that accepts all lines, no matter what header is.
+     */
+    private static final Function<String[], Predicate<String[]>> ALL =
+        header -> line -> true;
+
+    /**
+     * Size of the buffer of the writer, in chars.
+     */
+    private static final int BUFFER = 1 << 16;
+
+    /**
+     * How many times to copy a row that is changed while being copied.
+     */
+    private static final int ATTEMPTS = 1000;
+
     /**
      * The file where to keep them.
      */
     private final Path file;
 
+    /**
+     * The version of the file.
+     */
+    private final Stamp stamp;
+
+    /**
+     * How to save the file.
+     */
+    private final Save save;
+
+    /**
+     * How to read and print the lines of the file.
+     */
+    private final Csv csv;
+
     /**
      * Ctor.
      *
@@ -47,7 +87,47 @@ public final class MnCsv implements Mono {
      * @param path The path to the file
      */
     public MnCsv(final Path path) {
+        this(path, new SvDirect());
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>If the directory doesn't exist, it will automatically be created.</p>
+     *
+     * @param path The path to the file
+     * @param how How to save the file, for example {@link SvAtomic}
+     * @since 1.0
+     */
+    public MnCsv(final Path path, final Save how) {
+        this(path, how, new OpenCsv());
+    }
+
+    /**
+     * Ctor, with the parser that is built in, instead of OpenCSV.
+     *
+     * <p>If the directory doesn't exist, it will automatically be created.</p>
+     *
+     * @param path The path to the file
+     * @param how How to save the file, for example {@link SvAtomic}
+     * @param intern Read equal values of cells as one string?
+     * @since 1.0
+     */
+    public MnCsv(final Path path, final Save how, final boolean intern) {
+        this(path, how, new Rfc4180(intern));
+    }
+
+    /**
+     * Ctor.
+     * @param path The path to the file
+     * @param how How to save the file
+     * @param lines How to read and print lines
+     */
+    private MnCsv(final Path path, final Save how, final Csv lines) {
         this.file = path;
+        this.stamp = new Stamp(path);
+        this.save = how;
+        this.csv = lines;
     }
 
     @Override
@@ -56,66 +136,87 @@ public final class MnCsv implements Mono {
     }
 
     @Override
-    @SuppressWarnings("PMD.CognitiveComplexity")
     public Collection<Map<String, String>> read() {
-        final Collection<Map<String, String>> rows = new ArrayList<>(0);
-        if (Files.exists(this.file)) {
-            try (
-                CSVReader reader = new CSVReaderBuilder(
-                    Files.newBufferedReader(this.file)
-                ).withCSVParser(
-                    new RFC4180ParserBuilder().build()
-                ).build()
-            ) {
-                final String[] header = reader.readNext();
-                while (true) {
-                    final String[] next = reader.readNext();
-                    if (next == null) {
-                        break;
-                    }
-                    final Map<String, String> row = new HashMap<>(header.length);
-                    for (int pos = 0; pos < next.length; ++pos) {
-                        if (next[pos].isEmpty()) {
-                            continue;
-                        }
-                        row.put(header[pos], next[pos]);
-                    }
-                    rows.add(row);
-                }
-            } catch (final IOException | CsvValidationException ex) {
-                throw new IllegalArgumentException(
-                    String.format("Failed to read JSON from '%s'", this.file),
-                    ex
-                );
-            }
+        try (Stream<Map<String, String>> rows = this.stream()) {
+            return rows.collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+    @Override
+    public Collection<Map<String, String>> read(final Set<String> columns) {
+        try (Stream<Map<String, String>> rows = this.rows(columns::contains, MnCsv.ALL)) {
+            return rows.collect(Collectors.toCollection(ArrayList::new));
         }
-        return rows;
+    }
+
+    @Override
+    public Stream<Map<String, String>> stream() {
+        return this.rows(column -> true, MnCsv.ALL);
+    }
+
+    @Override
+    public Stream<Map<String, String>> stream(final Set<String> columns,
+        final String column, final Predicate<String> value) {
+        return this.rows(
+            columns::contains,
+            header -> {
+                final int pos = MnCsv.position(header, column);
+                return line -> pos >= 0 && pos < line.length
+                    && !line[pos].isEmpty() && value.test(line[pos]);
+            }
+        );
+    }
+
+    @Override
+    public Optional<String> version() {
+        return Optional.of(this.stamp.version());
     }
 
     @Override
     public void write(final Collection<Map<String, String>> rows) {
-        final Collection<Map<String, String>> copy = MnCsv.dup(rows);
-        final Collection<String> keys = new HashSet<>(0);
-        for (final Map<String, String> row : copy) {
-            keys.addAll(row.keySet());
+        final List<String[]> copies = new ArrayList<>(rows.size());
+        final Set<String> keys = new TreeSet<>();
+        for (final Map<String, String> row : rows) {
+            final String[] cells = MnCsv.cells(row);
+            for (int pos = 0; pos < cells.length && cells[pos] != null; pos += 2) {
+                keys.add(cells[pos]);
+            }
+            copies.add(cells);
         }
-        final List<String> header = new ArrayList<>(keys.size());
-        header.addAll(keys);
-        Collections.sort(header);
-        if (header.contains(Tojos.ID_KEY)) {
-            Collections.swap(header, 0, header.indexOf(Tojos.ID_KEY));
+        final String[] header = keys.toArray(new String[0]);
+        final Map<String, Integer> positions = new HashMap<>(header.length << 1);
+        for (int pos = 0; pos < header.length; ++pos) {
+            positions.put(header[pos], pos);
         }
-        final String[] values = new String[header.size()];
+        final Integer first = positions.get(Tojos.ID_KEY);
+        if (first != null) {
+            header[first] = header[0];
+            header[0] = Tojos.ID_KEY;
+            positions.put(header[first], first);
+            positions.put(Tojos.ID_KEY, 0);
+        }
+        final String[] values = new String[header.length];
         this.file.toFile().getParentFile().mkdirs();
-        try (ICSVWriter writer = new CSVWriter(Files.newBufferedWriter(this.file))) {
-            writer.writeNext(header.toArray(new String[] {}));
-            for (final Map<String, String> row : copy) {
-                Arrays.fill(values, "");
-                for (final Map.Entry<String, String> ent : row.entrySet()) {
-                    values[header.indexOf(ent.getKey())] = ent.getValue();
+        try {
+            this.save.write(
+                this.file,
+                out -> {
+                    try (Writer writer = new BufferedWriter(
+                        new OutputStreamWriter(out, StandardCharsets.UTF_8),
+                        MnCsv.BUFFER
+                    )) {
+                        final Csv.Printer printer = this.csv.printer(writer);
+                        printer.print(header);
+                        for (final String[] cells : copies) {
+                            Arrays.fill(values, "");
+                            for (int pos = 0; pos < cells.length && cells[pos] != null; pos += 2) {
+                                values[positions.get(cells[pos])] = cells[pos + 1];
+                            }
+                            printer.print(values);
+                        }
+                    }
                 }
-                writer.writeNext(values);
-            }
+            );
         } catch (final IOException ex) {
             throw new IllegalArgumentException(
                 String.format(
@@ -125,6 +226,7 @@ public final class MnCsv implements Mono {
                 ex
             );
         }
+        this.stamp.written();
     }
 
     @Override
@@ -132,21 +234,128 @@ public final class MnCsv implements Mono {
         // nothing to close here
     }
 
-    private static Collection<Map<String, String>> dup(final Collection<Map<String, String>> rows) {
-        final Collection<Map<String, String>> list = new ArrayList<>(rows.size());
-        for (final Map<String, String> map : rows) {
-            list.add(MnCsv.snapshot(map));
+    private Stream<Map<String, String>> rows(final Predicate<String> wanted,
+        final Function<String[], Predicate<String[]>> accepted) {
+        final Stream<Map<String, String>> rows;
+        if (Files.exists(this.file)) {
+            final Reader input;
+            try {
+                input = Files.newBufferedReader(this.file);
+            } catch (final IOException ex) {
+                throw new IllegalArgumentException(
+                    String.format("Failed to read CSV from '%s'", this.file),
+                    ex
+                );
+            }
+            final Csv.Lines lines = this.csv.lines(input);
+            final String[] names = this.next(lines, input);
+            final String[] header = MnCsv.only(names, wanted);
+            final Predicate<String[]> passes = accepted.apply(names);
+            rows = Stream.iterate(
+                this.row(lines, input, passes, header),
+                Objects::nonNull,
+                before -> this.row(lines, input, passes, header)
+            ).onClose(() -> this.close(input));
+        } else {
+            rows = Stream.empty();
         }
-        return list;
+        return rows;
     }
 
-    private static Map<String, String> snapshot(final Map<String, String> map) {
-        while (true) {
+    private Map<String, String> row(final Csv.Lines lines, final Reader input,
+        final Predicate<String[]> passes, final String... header) {
+        String[] next = this.next(lines, input);
+        while (next != null && !passes.test(next)) {
+            next = this.next(lines, input);
+        }
+        final Map<String, String> row;
+        if (next == null) {
+            row = null;
+        } else {
+            row = new HashMap<>(header.length);
+            for (int pos = 0; pos < next.length; ++pos) {
+                if (next[pos].isEmpty() || header[pos] == null) {
+                    continue;
+                }
+                row.put(header[pos], next[pos]);
+            }
+        }
+        return row;
+    }
+
+    private static int position(final String[] header, final String column) {
+        int pos = -1;
+        if (header != null) {
+            pos = Arrays.asList(header).indexOf(column);
+        }
+        return pos;
+    }
+
+    private static String[] only(final String[] header, final Predicate<String> wanted) {
+        String[] only = header;
+        if (header != null) {
+            only = new String[header.length];
+            for (int pos = 0; pos < header.length; ++pos) {
+                if (wanted.test(header[pos])) {
+                    only[pos] = header[pos].intern();
+                }
+            }
+        }
+        return only;
+    }
+
+    private String[] next(final Csv.Lines lines, final Reader input) {
+        try {
+            return lines.next();
+        } catch (final IOException ex) {
+            this.close(input);
+            throw new IllegalArgumentException(
+                String.format("Failed to read CSV from '%s'", this.file),
+                ex
+            );
+        }
+    }
+
+    private void close(final Reader input) {
+        try {
+            input.close();
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException(
+                String.format("Failed to close CSV of '%s'", this.file),
+                ex
+            );
+        }
+    }
+
+    private static String[] cells(final Map<String, String> row) {
+        ConcurrentModificationException failure = null;
+        for (int attempt = 0; attempt < MnCsv.ATTEMPTS; ++attempt) {
             try {
-                return new HashMap<>(map);
-            } catch (final ConcurrentModificationException ignored) {
-                // try again with a fresh snapshot
+                return MnCsv.copy(row);
+            } catch (final ConcurrentModificationException ex) {
+                failure = ex;
+            }
+        }
+        throw new IllegalStateException(
+            String.format(
+                "The row id=%s was changed all the %d times it was copied",
+                row.get(Tojos.ID_KEY), MnCsv.ATTEMPTS
+            ),
+            failure
+        );
+    }
+
+    private static String[] copy(final Map<String, String> row) {
+        String[] cells = new String[row.size() << 1];
+        int pos = 0;
+        for (final Map.Entry<String, String> ent : row.entrySet()) {
+            if (pos == cells.length) {
+                cells = Arrays.copyOf(cells, pos + 2);
             }
+            cells[pos] = ent.getKey();
+            cells[pos + 1] = ent.getValue();
+            pos += 2;
         }
+        return cells;
     }
 }
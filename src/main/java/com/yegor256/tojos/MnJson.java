@@ -6,24 +6,27 @@ package com.yegor256.tojos;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.json.Json;
 import javax.json.JsonArrayBuilder;
 import javax.json.JsonObjectBuilder;
-import javax.json.JsonReader;
-import javax.json.JsonString;
-import javax.json.JsonValue;
 import javax.json.JsonWriter;
 import javax.json.JsonWriterFactory;
 import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonParser;
 
 /**
  * JSON file.
@@ -44,13 +47,35 @@ public final class MnJson implements Mono {
      */
     private final Path file;
 
+    /**
+     * The version of the file.
+     */
+    private final Stamp stamp;
+
+    /**
+     * How to save the file.
+     */
+    private final Save save;
+
     /**
      * Ctor.
      * @param path The path to the file
      * @since 0.4.0
      */
     public MnJson(final Path path) {
+        this(path, new SvDirect());
+    }
+
+    /**
+     * Ctor.
+     * @param path The path to the file
+     * @param how How to save the file, for example {@link SvAtomic}
+     * @since 1.0
+     */
+    public MnJson(final Path path, final Save how) {
         this.file = path;
+        this.stamp = new Stamp(path);
+        this.save = how;
     }
 
     @Override
@@ -60,22 +85,26 @@ public final class MnJson implements Mono {
 
     @Override
     public Collection<Map<String, String>> read() {
-        final List<Map<String, String>> rows = new ArrayList<>(0);
-        if (this.file.toFile().exists()) {
-            try (JsonReader json = Json.createReader(Files.newBufferedReader(this.file))) {
-                json
-                    .readArray()
-                    .stream()
-                    .map(MnJson::asMap)
-                    .forEach(rows::add);
-            } catch (final IOException ex) {
-                throw new IllegalArgumentException(
-                    String.format("Failed to read JSON from '%s'", this.file),
-                    ex
-                );
-            }
+        try (Stream<Map<String, String>> rows = this.stream()) {
+            return rows.collect(Collectors.toCollection(ArrayList::new));
         }
-        return rows;
+    }
+
+    @Override
+    public Collection<Map<String, String>> read(final Set<String> columns) {
+        try (Stream<Map<String, String>> rows = this.rows(columns::contains)) {
+            return rows.collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+    @Override
+    public Stream<Map<String, String>> stream() {
+        return this.rows(column -> true);
+    }
+
+    @Override
+    public Optional<String> version() {
+        return Optional.of(this.stamp.version());
     }
 
     @Override
@@ -95,9 +124,24 @@ public final class MnJson implements Mono {
             array.add(obj);
         }
         this.file.toFile().getParentFile().mkdirs();
-        try (JsonWriter json = MnJson.JWF.createWriter(MnJson.bufferedWriterTo(this.file))) {
-            json.write(array.build());
+        try {
+            this.save.write(
+                this.file,
+                out -> {
+                    try (JsonWriter json = MnJson.JWF.createWriter(
+                        new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))
+                    )) {
+                        json.write(array.build());
+                    }
+                }
+            );
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException(
+                String.format("Failed to write %d rows into '%s'", rows.size(), this.file),
+                ex
+            );
         }
+        this.stamp.written();
     }
 
     @Override
@@ -105,15 +149,72 @@ public final class MnJson implements Mono {
         // nothing to close here
     }
 
-    private static Map<String, String> asMap(final JsonValue value) {
-        return value.asJsonObject()
-            .entrySet()
-            .stream()
-            .collect(Collectors.toMap(Map.Entry::getKey, ent -> MnJson.asString(ent.getValue())));
+    private Stream<Map<String, String>> rows(final Predicate<String> wanted) {
+        final Stream<Map<String, String>> rows;
+        if (this.file.toFile().exists()) {
+            final JsonParser json;
+            try {
+                json = Json.createParser(Files.newBufferedReader(this.file));
+            } catch (final IOException ex) {
+                throw new IllegalArgumentException(
+                    String.format("Failed to read JSON from '%s'", this.file),
+                    ex
+                );
+            }
+            if (json.next() != JsonParser.Event.START_ARRAY) {
+                json.close();
+                throw new IllegalArgumentException(
+                    String.format("Expected a JSON array in '%s'", this.file)
+                );
+            }
+            rows = Stream.iterate(
+                this.row(json, wanted),
+                Objects::nonNull,
+                before -> this.row(json, wanted)
+            ).onClose(json::close);
+        } else {
+            rows = Stream.empty();
+        }
+        return rows;
     }
 
-    private static String asString(final JsonValue value) {
-        return JsonString.class.cast(value).getString();
+    private Map<String, String> row(final JsonParser json,
+        final Predicate<String> wanted) {
+        JsonParser.Event event = json.next();
+        final Map<String, String> row;
+        if (event == JsonParser.Event.END_ARRAY) {
+            row = null;
+        } else if (event == JsonParser.Event.START_OBJECT) {
+            row = new HashMap<>(0);
+            while (true) {
+                event = json.next();
+                if (event == JsonParser.Event.END_OBJECT) {
+                    break;
+                }
+                final String key = json.getString();
+                if (json.next() != JsonParser.Event.VALUE_STRING) {
+                    json.close();
+                    throw new IllegalArgumentException(
+                        String.format(
+                            "Expected a string value of '%s' in '%s'",
+                            key, this.file
+                        )
+                    );
+                }
+                if (wanted.test(key)) {
+                    row.put(key, json.getString());
+                }
+            }
+        } else {
+            json.close();
+            throw new IllegalArgumentException(
+                String.format(
+                    "Expected a JSON object in '%s', but got %s",
+                    this.file, event
+                )
+            );
+        }
+        return row;
     }
 
     private static JsonWriterFactory factory() {
@@ -121,19 +222,4 @@ public final class MnJson implements Mono {
         properties.put(JsonGenerator.PRETTY_PRINTING, true);
         return Json.createWriterFactory(properties);
     }
-
-    private static BufferedWriter bufferedWriterTo(final Path target) {
-        try {
-            return Files.newBufferedWriter(
-                target,
-                StandardOpenOption.CREATE,
-                StandardOpenOption.TRUNCATE_EXISTING
-            );
-        } catch (final IOException ex) {
-            throw new IllegalArgumentException(
-                String.format("Failed to open '%s' for writing", target),
-                ex
-            );
-        }
-    }
 }
@@ -0,0 +1,313 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The {@link Mono} that is safe to share among a few processes.
+ *
+ * <p>Every read takes a shared lock of the lock file, through
+ * {@link FileChannel#lock(long, long, boolean)}, and every write takes an
+ * exclusive one: a few processes may read at once, while a write waits for
+ * all of them and nobody reads while it goes on. The lock file is created,
+ * if it's absent, and should not be the file of the mono itself, for
+ * example:</p>
+ *
+ * <pre> Mono mono = new MnLocked(
+ *   new MnCsv(Paths.get("tojos.csv")),
+ *   Paths.get("tojos.csv.lock")
+ * );</pre>
+ *
+ * <p>A read and a write that follows it are not done under one lock, so
+ * a write that knows which rows changed, see {@link #write(Collection,
+ * Collection)}, reads the mono again under the exclusive lock and puts
+ * the cells of these rows over the rows with the same ids found there.
+ * What other processes wrote since this one read the mono is not lost,
+ * unless they changed the same cells, at the price of one more read
+ * for every such write. The rows given to the write are not changed, so
+ * if the rows of others were found, the next {@link #version()} asked by
+ * the same thread is empty: whoever keeps the rows until the version
+ * changes, like {@link TjDefault}, reads them again.
+ * A write of all rows replaces them, as they are.</p>
+ *
+ * <p>How long it takes to get a lock, in milliseconds, is reported every
+ * time to the given consumer, if there is one.</p>
+ *
+ * <p>The class is thread-safe: threads of one process read at once,
+ * holding one shared lock of the file together, while a write waits for all
+ * of them. Since the lock of a file is held by the whole process, there must
+ * be only one such object for a lock file in a process.</p>
+ *
+ * @since 1.0
+ */
+public final class MnLocked implements Mono {
+
+    /**
+     * The wrapped mono.
+     */
+    private final Mono origin;
+
+    /**
+     * The lock file.
+     */
+    private final Path file;
+
+    /**
+     * The consumer of milliseconds spent waiting for locks.
+     */
+    private final LongConsumer waits;
+
+    /**
+     * Lock for threads of this process.
+     */
+    private final ReentrantReadWriteLock threads;
+
+    /**
+     * Lock for the shared lock of the file and its readers.
+     */
+    private final ReentrantLock guard;
+
+    /**
+     * How many threads of this process hold the shared lock of the file.
+     */
+    private final AtomicInteger readers;
+
+    /**
+     * The shared lock of the file, while threads of this process read.
+     */
+    private final AtomicReference<FileLock> held;
+
+    /**
+     * Did the last write of this thread find rows written by others?
+     */
+    private final ThreadLocal<Boolean> foreign;
+
+    /**
+     * Ctor.
+     * @param mono The mono
+     * @param path The lock file
+     */
+    public MnLocked(final Mono mono, final Path path) {
+        this(mono, path, msec -> { });
+    }
+
+    /**
+     * Ctor.
+     * @param mono The mono
+     * @param path The lock file
+     * @param metrics The consumer of milliseconds spent waiting for locks
+     */
+    public MnLocked(final Mono mono, final Path path, final LongConsumer metrics) {
+        this.origin = mono;
+        this.file = path;
+        this.waits = metrics;
+        this.threads = new ReentrantReadWriteLock();
+        this.guard = new ReentrantLock();
+        this.readers = new AtomicInteger();
+        this.held = new AtomicReference<>();
+        this.foreign = ThreadLocal.withInitial(() -> false);
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public Collection<Map<String, String>> read() {
+        return this.shared(this.origin::read);
+    }
+
+    @Override
+    public Collection<Map<String, String>> read(final Set<String> columns) {
+        return this.shared(() -> this.origin.read(columns));
+    }
+
+    @Override
+    public Stream<Map<String, String>> stream(final Set<String> columns,
+        final String column, final Predicate<String> value) {
+        return this.shared(
+            () -> {
+                try (Stream<Map<String, String>> rows =
+                    this.origin.stream(columns, column, value)) {
+                    return rows.collect(Collectors.toList()).stream();
+                }
+            }
+        );
+    }
+
+    @Override
+    public Optional<String> version() {
+        Optional<String> ver = this.origin.version();
+        if (this.foreign.get()) {
+            this.foreign.set(false);
+            ver = Optional.empty();
+        }
+        return ver;
+    }
+
+    @Override
+    public void write(final Collection<Map<String, String>> rows) {
+        this.exclusive(
+            () -> {
+                this.origin.write(rows);
+                return rows;
+            }
+        );
+    }
+
+    @Override
+    public void write(final Collection<Map<String, String>> rows,
+        final Collection<Map<String, String>> changed) {
+        this.exclusive(
+            () -> {
+                if (changed.stream().allMatch(row -> row.containsKey(Tojos.ID_KEY))) {
+                    final List<Map<String, String>> all = new ArrayList<>(this.origin.read());
+                    final List<Map<String, String>> merged = MnLocked.merged(all, changed);
+                    this.foreign.set(!all.equals(new ArrayList<>(rows)));
+                    this.origin.write(all, merged);
+                } else {
+                    this.origin.write(rows, changed);
+                }
+                return rows;
+            }
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+
+    private <T> T shared(final Supplier<T> action) {
+        final long start = System.nanoTime();
+        this.threads.readLock().lock();
+        try {
+            this.guard.lock();
+            try {
+                if (this.readers.get() == 0) {
+                    this.held.set(this.acquired(true));
+                }
+                this.readers.incrementAndGet();
+            } finally {
+                this.guard.unlock();
+            }
+            this.waits.accept(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            try {
+                return action.get();
+            } finally {
+                this.guard.lock();
+                try {
+                    if (this.readers.decrementAndGet() == 0) {
+                        this.released(this.held.getAndSet(null));
+                    }
+                } finally {
+                    this.guard.unlock();
+                }
+            }
+        } finally {
+            this.threads.readLock().unlock();
+        }
+    }
+
+    private <T> T exclusive(final Supplier<T> action) {
+        final long start = System.nanoTime();
+        this.threads.writeLock().lock();
+        try {
+            final FileLock mine = this.acquired(false);
+            this.waits.accept(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            try {
+                return action.get();
+            } finally {
+                this.released(mine);
+            }
+        } finally {
+            this.threads.writeLock().unlock();
+        }
+    }
+
+    private FileLock acquired(final boolean shared) {
+        this.file.toAbsolutePath().getParent().toFile().mkdirs();
+        try {
+            final FileChannel channel = FileChannel.open(
+                this.file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE
+            );
+            try {
+                return channel.lock(0L, Long.MAX_VALUE, shared);
+            } catch (final IOException ex) {
+                channel.close();
+                throw ex;
+            }
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException(
+                String.format("Failed to lock '%s'", this.file),
+                ex
+            );
+        }
+    }
+
+    private void released(final FileLock lock) {
+        try {
+            lock.channel().close();
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException(
+                String.format("Failed to unlock '%s'", this.file),
+                ex
+            );
+        }
+    }
+
+    private static List<Map<String, String>> merged(final List<Map<String, String>> rows,
+        final Collection<Map<String, String>> changed) {
+        final Map<String, Integer> positions = new HashMap<>(rows.size());
+        for (int pos = 0; pos < rows.size(); ++pos) {
+            final String id = rows.get(pos).get(Tojos.ID_KEY);
+            if (id != null) {
+                positions.putIfAbsent(id, pos);
+            }
+        }
+        final List<Map<String, String>> merged = new ArrayList<>(changed.size());
+        for (final Map<String, String> row : changed) {
+            final String id = row.get(Tojos.ID_KEY);
+            final Integer pos = positions.get(id);
+            final Map<String, String> cells;
+            if (pos == null) {
+                cells = new LinkedHashMap<>(row);
+                positions.put(id, rows.size());
+                rows.add(cells);
+            } else {
+                cells = new LinkedHashMap<>(rows.get(pos));
+                cells.putAll(row);
+                rows.set(pos, cells);
+            }
+            merged.add(cells);
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,463 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * This decorator makes every write durable by adding it to a log, before
+ * the original mono is written.
+ *
+ * <p>A write adds only the rows changed to the end of the log and forces
+ * it to the disk, see {@link FileChannel#force(boolean)}, while the original
+ * mono is written only once in a while, in the background, when the log
+ * is emptied. Writes of a few threads that happen at once are forced to the
+ * disk together, by one of them, while the others wait. The rows are read
+ * from memory, as in {@link MnPostponed}: they are copied when read, while
+ * a write copies only the rows changed.</p>
+ *
+ * <p>When the object is used the first time, the original mono is read and
+ * then all writes found in the log are made again, in the order they were
+ * made, after which the original mono is written and the log is emptied.
+ * A write that was not forced to the disk entirely, because of a crash,
+ * is ignored. The original mono had better save its file atomically, see
+ * {@link SvAtomic}: otherwise a crash while it is being written breaks it,
+ * while the log is not yet emptied.</p>
+ *
+ * <p>If the original mono fails to be written in the background, the failure
+ * is logged, see {@link Logger}, and the log is kept, to be written again
+ * the next time.</p>
+ *
+ * <p>You should use this one ONLY if you are sure that nobody else is
+ * touching the file/mono and the log, and only if you close it: the
+ * thread that writes the original mono stops only then.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+public final class MnLogged implements Mono {
+
+    /**
+     * The mark of the line that removes all rows.
+     */
+    private static final String RESET = "=";
+
+    /**
+     * The mark of the line with a row to put in place of the one with its id.
+     */
+    private static final String PUT = "+";
+
+    /**
+     * The line that ends one write.
+     */
+    private static final String END = ".";
+
+    /**
+     * Original Mono.
+     */
+    private final Mono origin;
+
+    /**
+     * The log file.
+     */
+    private final Path path;
+
+    /**
+     * Cached rows, never modified and never given out.
+     */
+    private final AtomicReference<Collection<Map<String, String>>> mem;
+
+    /**
+     * Positions of the cached rows, by their ids.
+     */
+    private final Map<String, Integer> places;
+
+    /**
+     * How many times the cached rows were replaced.
+     */
+    private final AtomicLong writes;
+
+    /**
+     * Was the log read and opened?
+     */
+    private final AtomicBoolean ready;
+
+    /**
+     * Lock for the cached rows and the lines not yet in the log.
+     */
+    private final ReentrantLock lock;
+
+    /**
+     * Lines not yet added to the log.
+     */
+    private final List<String> pending;
+
+    /**
+     * How many writes were made.
+     */
+    private final AtomicLong made;
+
+    /**
+     * How many writes were forced to the disk.
+     */
+    private final AtomicLong forced;
+
+    /**
+     * Lock for the log file.
+     */
+    private final ReentrantLock logging;
+
+    /**
+     * The log file, when it's open.
+     */
+    private final AtomicReference<FileChannel> channel;
+
+    /**
+     * There is something in the log?
+     */
+    private final AtomicBoolean dirty;
+
+    /**
+     * The scheduler of checkpoints.
+     */
+    private final ScheduledExecutorService checkpoints;
+
+    /**
+     * Delay between checkpoints, in milliseconds.
+     */
+    private final long delay;
+
+    /**
+     * Ctor.
+     * @param mono The original one
+     * @param log The log file
+     */
+    public MnLogged(final Mono mono, final Path log) {
+        this(mono, log, 1000L);
+    }
+
+    /**
+     * Ctor.
+     * @param mono The original one
+     * @param log The log file
+     * @param msec Delay between writes of the original mono, in milliseconds
+     */
+    public MnLogged(final Mono mono, final Path log, final long msec) {
+        this.origin = mono;
+        this.path = log;
+        this.mem = new AtomicReference<>(Collections.emptyList());
+        this.places = new HashMap<>(0);
+        this.writes = new AtomicLong();
+        this.ready = new AtomicBoolean(false);
+        this.lock = new ReentrantLock();
+        this.pending = new ArrayList<>(0);
+        this.made = new AtomicLong();
+        this.forced = new AtomicLong();
+        this.logging = new ReentrantLock();
+        this.channel = new AtomicReference<>();
+        this.dirty = new AtomicBoolean(false);
+        this.checkpoints = Executors.newSingleThreadScheduledExecutor();
+        this.delay = msec;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public Collection<Map<String, String>> read() {
+        this.open();
+        return MnLogged.copied(this.mem.get());
+    }
+
+    @Override
+    public Optional<String> version() {
+        return Optional.of(Long.toString(this.writes.get()));
+    }
+
+    @Override
+    public void write(final Collection<Map<String, String>> rows) {
+        this.logged(MnLogged.whole(rows), () -> this.replace(rows));
+    }
+
+    @Override
+    public void write(final Collection<Map<String, String>> rows,
+        final Collection<Map<String, String>> changed) {
+        if (changed.stream().allMatch(row -> row.containsKey(Tojos.ID_KEY))) {
+            final List<String> lines = new ArrayList<>(changed.size() + 1);
+            for (final Map<String, String> row : changed) {
+                lines.add(String.format("%s%s", MnLogged.PUT, MnTabs.line(row)));
+            }
+            lines.add(MnLogged.END);
+            this.logged(lines, () -> this.update(changed));
+        } else {
+            this.write(rows);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.checkpoints.shutdown();
+        if (this.ready.get()) {
+            this.checkpoint();
+            this.channel.get().close();
+        }
+        this.origin.close();
+    }
+
+    private void logged(final List<String> lines, final Runnable cache) {
+        this.open();
+        final long mine;
+        this.lock.lock();
+        try {
+            cache.run();
+            this.writes.incrementAndGet();
+            this.pending.addAll(lines);
+            mine = this.made.incrementAndGet();
+        } finally {
+            this.lock.unlock();
+        }
+        this.logging.lock();
+        try {
+            if (this.forced.get() < mine) {
+                final List<String> batch;
+                final long last;
+                this.lock.lock();
+                try {
+                    batch = new ArrayList<>(this.pending);
+                    this.pending.clear();
+                    last = this.made.get();
+                } finally {
+                    this.lock.unlock();
+                }
+                this.append(batch);
+                this.dirty.set(true);
+                this.forced.set(last);
+            }
+        } finally {
+            this.logging.unlock();
+        }
+    }
+
+    private void replace(final Collection<Map<String, String>> rows) {
+        final List<Map<String, String>> copy = MnLogged.copied(rows);
+        MnLogged.index(copy, this.places);
+        this.mem.set(copy);
+    }
+
+    private void update(final Collection<Map<String, String>> changed) {
+        final List<Map<String, String>> rows = new ArrayList<>(this.mem.get());
+        for (final Map<String, String> row : changed) {
+            MnLogged.put(rows, this.places, new LinkedHashMap<>(row));
+        }
+        this.mem.set(rows);
+    }
+
+    private void append(final List<String> lines) {
+        final StringBuilder text = new StringBuilder(0);
+        for (final String line : lines) {
+            text.append(line).append('\n');
+        }
+        final FileChannel log = this.channel.get();
+        try {
+            final ByteBuffer buf = ByteBuffer.wrap(
+                text.toString().getBytes(StandardCharsets.UTF_8)
+            );
+            while (buf.hasRemaining()) {
+                log.write(buf, log.size());
+            }
+            log.force(false);
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException(
+                String.format("Failed to add %d lines to '%s'", lines.size(), this.path),
+                ex
+            );
+        }
+    }
+
+    private void checkpoint() {
+        this.logging.lock();
+        try {
+            if (this.dirty.get()) {
+                this.origin.write(this.mem.get());
+                this.channel.get().truncate(0L);
+                this.channel.get().force(false);
+                this.dirty.set(false);
+            }
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException(
+                String.format("Failed to empty the log '%s'", this.path),
+                ex
+            );
+        } finally {
+            this.logging.unlock();
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void scheduled() {
+        try {
+            this.checkpoint();
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final RuntimeException ex) {
+            Logger.getLogger(MnLogged.class.getName()).log(
+                Level.WARNING,
+                String.format(
+                    "Failed to write '%s' from the log '%s', will try again",
+                    this.origin, this.path
+                ),
+                ex
+            );
+        }
+    }
+
+    private void open() {
+        if (!this.ready.get()) {
+            this.lock.lock();
+            try {
+                if (!this.ready.get()) {
+                    this.recover();
+                    this.ready.set(true);
+                    this.checkpoints.scheduleWithFixedDelay(
+                        this::scheduled, this.delay, this.delay, TimeUnit.MILLISECONDS
+                    );
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+    }
+
+    private void recover() {
+        final List<Map<String, String>> rows = new ArrayList<>(this.origin.read());
+        try {
+            this.path.toAbsolutePath().getParent().toFile().mkdirs();
+            this.channel.set(
+                FileChannel.open(
+                    this.path, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE
+                )
+            );
+            MnLogged.index(rows, this.places);
+            if (this.channel.get().size() > 0L) {
+                MnLogged.replay(
+                    rows, this.places,
+                    new String(Files.readAllBytes(this.path), StandardCharsets.UTF_8)
+                );
+                this.mem.set(rows);
+                this.dirty.set(true);
+                this.checkpoint();
+            } else {
+                this.mem.set(rows);
+            }
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException(
+                String.format("Failed to open the log '%s'", this.path),
+                ex
+            );
+        }
+    }
+
+    private static void replay(final List<Map<String, String>> rows,
+        final Map<String, Integer> positions, final String log) {
+        final List<String> lines = new ArrayList<>(0);
+        int start = 0;
+        int end = log.indexOf('\n', start);
+        while (end >= 0) {
+            final String line = log.substring(start, end);
+            if (MnLogged.END.equals(line)) {
+                MnLogged.apply(rows, positions, lines);
+                lines.clear();
+            } else {
+                lines.add(line);
+            }
+            start = end + 1;
+            end = log.indexOf('\n', start);
+        }
+    }
+
+    private static void apply(final List<Map<String, String>> rows,
+        final Map<String, Integer> positions, final List<String> lines) {
+        for (final String line : lines) {
+            if (MnLogged.RESET.equals(line)) {
+                rows.clear();
+                positions.clear();
+            } else {
+                MnLogged.put(
+                    rows, positions,
+                    MnTabs.parsed(line.substring(MnLogged.PUT.length()), key -> true)
+                );
+            }
+        }
+    }
+
+    private static void index(final List<Map<String, String>> rows,
+        final Map<String, Integer> positions) {
+        positions.clear();
+        for (int pos = 0; pos < rows.size(); ++pos) {
+            final String id = rows.get(pos).get(Tojos.ID_KEY);
+            if (id != null) {
+                positions.putIfAbsent(id, pos);
+            }
+        }
+    }
+
+    private static void put(final List<Map<String, String>> rows,
+        final Map<String, Integer> positions, final Map<String, String> row) {
+        final Integer pos = positions.get(row.get(Tojos.ID_KEY));
+        if (pos == null) {
+            if (row.containsKey(Tojos.ID_KEY)) {
+                positions.put(row.get(Tojos.ID_KEY), rows.size());
+            }
+            rows.add(row);
+        } else {
+            rows.set(pos, row);
+        }
+    }
+
+    private static List<Map<String, String>> copied(
+        final Collection<Map<String, String>> rows) {
+        final List<Map<String, String>> copy = new ArrayList<>(rows.size());
+        for (final Map<String, String> row : rows) {
+            copy.add(new LinkedHashMap<>(row));
+        }
+        return copy;
+    }
+
+    private static List<String> whole(final Collection<Map<String, String>> rows) {
+        final List<String> lines = new ArrayList<>(rows.size() + 2);
+        lines.add(MnLogged.RESET);
+        for (final Map<String, String> row : rows) {
+            lines.add(String.format("%s%s", MnLogged.PUT, MnTabs.line(row)));
+        }
+        lines.add(MnLogged.END);
+        return lines;
+    }
+}
@@ -7,7 +7,9 @@ package com.yegor256.tojos;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * In memory {@link Mono}.
@@ -23,11 +25,17 @@ public final class MnMemory implements Mono {
      */
     private final Collection<Map<String, String>> mem;
 
+    /**
+     * How many times the rows were written.
+     */
+    private final AtomicLong writes;
+
     /**
      * Ctor.
      */
     public MnMemory() {
         this.mem = new CopyOnWriteArrayList<>();
+        this.writes = new AtomicLong();
     }
 
     @Override
@@ -37,10 +45,16 @@ public final class MnMemory implements Mono {
         return list;
     }
 
+    @Override
+    public Optional<String> version() {
+        return Optional.of(Long.toString(this.writes.get()));
+    }
+
     @Override
     public void write(final Collection<Map<String, String>> rows) {
         this.mem.clear();
         this.mem.addAll(rows);
+        this.writes.incrementAndGet();
     }
 
     @Override
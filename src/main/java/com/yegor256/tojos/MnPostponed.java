@@ -4,10 +4,22 @@
  */
 package com.yegor256.tojos;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * This decorator prevents immediate write to the disk.
@@ -16,6 +28,34 @@ import java.util.concurrent.locks.ReentrantLock;
  * is touching the file/mono. Otherwise, there will be synchronization
  * issues.</p>
  *
+ * <p>The rows changed since the last flush are remembered by their ids,
+ * see {@link Mono#write(Collection, Collection)}, and only they are reported
+ * to the original mono as changed, so that it may save only them. All rows
+ * are written as changed only after {@link #write(Collection)} or after
+ * a change of a row without an id.</p>
+ *
+ * <p>The flush happens in the given number of milliseconds after the first
+ * write since the previous flush: all writes made in between are saved
+ * together. Instead of the number, a {@link Flush} may decide when to
+ * flush, for example {@link FlAdaptive}, which flushes sooner when much was
+ * written and later when the origin is slow to write. A flush that was
+ * scheduled before the previous flush happened is dropped, so that a policy
+ * which asks to wait longer after a flush is obeyed. By default, every
+ * object has its own thread for flushing. When
+ * many of them are open, they may rather share one scheduler, for example:
+ *
+ * <pre> ScheduledExecutorService flusher = Executors.newScheduledThreadPool(1);
+ * Mono first = new MnPostponed(new MnJson(a), 100L, flusher);
+ * Mono second = new MnPostponed(new MnJson(b), 100L, flusher);</pre>
+ *
+ * <p>If a flush in the background fails, the failure is logged, see
+ * {@link Logger}, and nothing written is forgotten: it is flushed again
+ * after the next write, or when the object is closed.</p>
+ *
+ * <p>The shared scheduler is not stopped when the object is closed,
+ * while its own one is. When the scheduler is stopped, every write goes
+ * right to the original mono, without any delay.</p>
+ *
  * <p>The class is thread-safe.</p>
  *
  * @since 0.12.0
@@ -28,9 +68,19 @@ public final class MnPostponed implements Mono {
     private final Mono origin;
 
     /**
-     * Cached rows.
+     * Cached rows, never modified, only replaced.
+     */
+    private final AtomicReference<Collection<Map<String, String>>> mem;
+
+    /**
+     * How many times the cached rows were replaced.
+     */
+    private final AtomicLong writes;
+
+    /**
+     * Rows changed since the last flush, by their ids.
      */
-    private final MnMemory mem;
+    private final Map<String, Map<String, String>> changes;
 
     /**
      * Is it the first time?
@@ -42,15 +92,35 @@ public final class MnPostponed implements Mono {
      */
     private final AtomicBoolean dirty;
 
+    /**
+     * All rows must be written, not only those changed?
+     */
+    private final AtomicBoolean whole;
+
     /**
      * Lock for synchronization.
      */
     private final ReentrantLock lock;
 
     /**
-     * Flushing thread.
+     * When the earliest flush scheduled will happen, in milliseconds since the epoch.
+     */
+    private final AtomicLong deadline;
+
+    /**
+     * When to flush.
+     */
+    private final Flush policy;
+
+    /**
+     * The scheduler of flushes.
+     */
+    private final ScheduledExecutorService flusher;
+
+    /**
+     * Stop the scheduler when closed?
      */
-    private final Thread flush;
+    private final boolean owned;
 
     /**
      * Ctor.
@@ -66,29 +136,114 @@ public final class MnPostponed implements Mono {
      * @param msec Delay between write operations, in milliseconds
      */
     public MnPostponed(final Mono mono, final long msec) {
+        this(mono, new FlFixed(msec));
+    }
+
+    /**
+     * Ctor.
+     * @param mono The original one
+     * @param flush When to flush
+     * @since 1.0
+     */
+    public MnPostponed(final Mono mono, final Flush flush) {
+        this(mono, flush, Executors.newSingleThreadScheduledExecutor(), true);
+    }
+
+    /**
+     * Ctor.
+     * @param mono The original one
+     * @param msec Delay between the first write and the flush, in milliseconds
+     * @param service The scheduler of flushes, shared with others
+     * @since 1.0
+     */
+    public MnPostponed(final Mono mono, final long msec,
+        final ScheduledExecutorService service) {
+        this(mono, new FlFixed(msec), service);
+    }
+
+    /**
+     * Ctor.
+     * @param mono The original one
+     * @param flush When to flush
+     * @param service The scheduler of flushes, shared with others
+     * @since 1.0
+     */
+    public MnPostponed(final Mono mono, final Flush flush,
+        final ScheduledExecutorService service) {
+        this(mono, flush, service, false);
+    }
+
+    /**
+     * Ctor.
+     * @param mono The original one
+     * @param flush When to flush
+     * @param service The scheduler of flushes
+     * @param own Stop the scheduler when closed?
+     */
+    private MnPostponed(final Mono mono, final Flush flush,
+        final ScheduledExecutorService service, final boolean own) {
         this.origin = mono;
-        this.mem = new MnMemory();
+        this.mem = new AtomicReference<>(Collections.emptyList());
+        this.writes = new AtomicLong();
+        this.changes = new LinkedHashMap<>(0);
         this.first = new AtomicBoolean(true);
         this.dirty = new AtomicBoolean(false);
+        this.whole = new AtomicBoolean(false);
         this.lock = new ReentrantLock();
-        // @checkstyle ConstructorsCodeFreeCheck (1 line)
-        this.flush = MnPostponed.start(mono, this.mem, msec, this.dirty, this.lock);
+        this.deadline = new AtomicLong(Long.MAX_VALUE);
+        this.policy = flush;
+        this.flusher = service;
+        this.owned = own;
     }
 
     @Override
     public Collection<Map<String, String>> read() {
         if (this.first.compareAndSet(true, false)) {
-            this.mem.write(this.origin.read());
+            this.mem.set(new ArrayList<>(this.origin.read()));
         }
-        return this.mem.read();
+        return new ArrayList<>(this.mem.get());
+    }
+
+    @Override
+    public Optional<String> version() {
+        return Optional.of(Long.toString(this.writes.get()));
     }
 
     @Override
     public void write(final Collection<Map<String, String>> rows) {
         this.lock.lock();
         try {
-            this.mem.write(rows);
+            this.mem.set(new ArrayList<>(rows));
+            this.writes.incrementAndGet();
+            this.changes.clear();
+            this.whole.set(true);
+            this.dirty.set(true);
+            this.schedule(this.policy.written(Collections.emptyList()));
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public void write(final Collection<Map<String, String>> rows,
+        final Collection<Map<String, String>> changed) {
+        this.lock.lock();
+        try {
+            this.mem.set(new ArrayList<>(rows));
+            this.writes.incrementAndGet();
+            if (!this.whole.get()) {
+                for (final Map<String, String> row : changed) {
+                    final String id = row.get(Tojos.ID_KEY);
+                    if (id == null) {
+                        this.changes.clear();
+                        this.whole.set(true);
+                        break;
+                    }
+                    this.changes.put(id, row);
+                }
+            }
             this.dirty.set(true);
+            this.schedule(this.policy.written(changed));
         } finally {
             this.lock.unlock();
         }
@@ -96,36 +251,66 @@ public final class MnPostponed implements Mono {
 
     @Override
     public void close() {
-        if (this.dirty.compareAndSet(true, false)) {
-            this.origin.write(this.mem.read());
+        this.flushed();
+        if (this.owned) {
+            this.flusher.shutdown();
         }
-        this.flush.interrupt();
     }
 
-    private static Thread start(final Mono main, final Mono cache,
-        final long msec, final AtomicBoolean flag, final ReentrantLock lck) {
-        final Thread thread = new Thread(
-            () -> {
-                while (true) {
-                    try {
-                        Thread.sleep(msec);
-                    } catch (final InterruptedException ex) {
-                        Thread.currentThread().interrupt();
-                        break;
-                    }
-                    lck.lock();
-                    try {
-                        if (flag.compareAndSet(true, false)) {
-                            main.write(cache.read());
-                        }
-                    } finally {
-                        lck.unlock();
-                    }
+    private void schedule(final long msec) {
+        final long when = System.currentTimeMillis() + msec;
+        if (when < this.deadline.get()) {
+            this.deadline.set(when);
+            try {
+                this.flusher.schedule(() -> this.fire(when), msec, TimeUnit.MILLISECONDS);
+            } catch (final RejectedExecutionException ex) {
+                this.flushed();
+            }
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void fire(final long when) {
+        this.lock.lock();
+        try {
+            if (this.deadline.get() == when) {
+                this.flushed();
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final RuntimeException ex) {
+            Logger.getLogger(MnPostponed.class.getName()).log(
+                Level.WARNING,
+                String.format(
+                    "Failed to flush to '%s', will try again after the next write",
+                    this.origin
+                ),
+                ex
+            );
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void flushed() {
+        this.lock.lock();
+        try {
+            this.deadline.set(Long.MAX_VALUE);
+            if (this.dirty.get()) {
+                final long start = System.currentTimeMillis();
+                if (this.whole.get()) {
+                    this.origin.write(this.mem.get());
+                } else {
+                    this.origin.write(
+                        this.mem.get(), new ArrayList<>(this.changes.values())
+                    );
                 }
+                this.whole.set(false);
+                this.changes.clear();
+                this.dirty.set(false);
+                this.policy.flushed(System.currentTimeMillis() - start);
             }
-        );
-        thread.setDaemon(false);
-        thread.start();
-        return thread;
+        } finally {
+            this.lock.unlock();
+        }
     }
 }
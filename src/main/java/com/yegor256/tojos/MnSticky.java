@@ -7,7 +7,9 @@ package com.yegor256.tojos;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * This decorator prevents multiple reads.
@@ -16,6 +18,15 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * is touching the file/mono. Otherwise, there will be synchronization
  * issues.</p>
  *
+ * <p>Unless it validates: then, on every {@link #read()}, it asks the
+ * original mono for its version, see {@link Mono#version()}, and reads it
+ * again only if the version changed since the last read or write. For a file,
+ * this is the time of modification and the size of it, which costs one look
+ * at the file system instead of parsing it. A mono that can't tell its
+ * version is read every time. The version of this mono changes along with
+ * the version of the original one, so {@link TjDefault} over it sees
+ * the changes of others too.</p>
+ *
  * <p>The class is NOT thread-safe.</p>
  *
  * @since 0.12.0
@@ -37,28 +48,76 @@ public final class MnSticky implements Mono {
      */
     private final AtomicBoolean first;
 
+    /**
+     * Check the version of the original mono on every read?
+     */
+    private final boolean validating;
+
+    /**
+     * The version of the original mono, as seen the last time.
+     */
+    private final AtomicReference<Optional<String>> seen;
+
     /**
      * Ctor.
      * @param mono The original one
      */
     public MnSticky(final Mono mono) {
+        this(mono, false);
+    }
+
+    /**
+     * Ctor.
+     * @param mono The original one
+     * @param validate Read it again when its version changes?
+     * @since 1.0
+     */
+    public MnSticky(final Mono mono, final boolean validate) {
         this.origin = mono;
         this.mem = new MnMemory();
         this.first = new AtomicBoolean(true);
+        this.validating = validate;
+        this.seen = new AtomicReference<>(Optional.empty());
     }
 
     @Override
     public Collection<Map<String, String>> read() {
-        if (this.first.compareAndSet(true, false)) {
-            this.mem.write(this.origin.read());
+        if (this.validating || this.first.get()) {
+            final Optional<String> now = this.origin.version();
+            if (this.first.compareAndSet(true, false) || !now.isPresent()
+                || !now.equals(this.seen.get())) {
+                this.mem.write(this.origin.read());
+                this.seen.set(now);
+            }
         }
         return this.mem.read();
     }
 
+    @Override
+    public Optional<String> version() {
+        Optional<String> ver = this.mem.version();
+        if (this.validating) {
+            final Optional<String> mine = ver;
+            ver = this.origin.version().flatMap(
+                now -> mine.map(cached -> String.format("%s/%s", cached, now))
+            );
+        }
+        return ver;
+    }
+
     @Override
     public void write(final Collection<Map<String, String>> rows) {
         this.mem.write(rows);
         this.origin.write(rows);
+        this.seen.set(this.origin.version());
+    }
+
+    @Override
+    public void write(final Collection<Map<String, String>> rows,
+        final Collection<Map<String, String>> changed) {
+        this.mem.write(rows);
+        this.origin.write(rows, changed);
+        this.seen.set(this.origin.version());
     }
 
     @Override
@@ -7,10 +7,29 @@ package com.yegor256.tojos;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
- * This class is thread-safe.
+ * Thread-safe version of {@link Mono}.
+ *
+ * <p>By default, reads and writes wait for each other, all of them. With a
+ * {@link ReadWriteLock}, for example
+ * {@link java.util.concurrent.locks.ReentrantReadWriteLock}, reads don't
+ * wait for each other, only for writes. Use it only if {@link Mono#read()}
+ * of the origin is safe to call from a few threads at once, as it is in
+ * {@link MnMemory} and in the monos that read files. It is not so in
+ * {@link MnSticky}, which may return nothing to the second thread while the
+ * first one is still reading the first time.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
  * @since 0.3.0
  */
 public final class MnSynchronized implements Mono {
@@ -21,36 +40,113 @@ public final class MnSynchronized implements Mono {
     private final Mono origin;
 
     /**
-     * Lock for synchronization.
+     * Lock for reading.
      */
-    private final ReentrantLock lock;
+    private final Lock reading;
+
+    /**
+     * Lock for writing.
+     */
+    private final Lock writing;
 
     /**
      * Ctor.
      * @param mono The mono
      */
     public MnSynchronized(final Mono mono) {
+        this(mono, new ReentrantLock());
+    }
+
+    /**
+     * Ctor.
+     * @param mono The mono
+     * @param lock The lock, with reading and writing sides
+     * @since 1.0
+     */
+    public MnSynchronized(final Mono mono, final ReadWriteLock lock) {
+        this(mono, lock.readLock(), lock.writeLock());
+    }
+
+    /**
+     * Ctor.
+     * @param mono The mono
+     * @param lock The lock for both reading and writing
+     */
+    private MnSynchronized(final Mono mono, final Lock lock) {
+        this(mono, lock, lock);
+    }
+
+    /**
+     * Ctor.
+     * @param mono The mono
+     * @param rlock The lock for reading
+     * @param wlock The lock for writing
+     */
+    private MnSynchronized(final Mono mono, final Lock rlock, final Lock wlock) {
         this.origin = mono;
-        this.lock = new ReentrantLock();
+        this.reading = rlock;
+        this.writing = wlock;
     }
 
     @Override
     public Collection<Map<String, String>> read() {
-        this.lock.lock();
+        this.reading.lock();
         try {
             return this.origin.read();
         } finally {
-            this.lock.unlock();
+            this.reading.unlock();
+        }
+    }
+
+    @Override
+    public Collection<Map<String, String>> read(final Set<String> columns) {
+        this.reading.lock();
+        try {
+            return this.origin.read(columns);
+        } finally {
+            this.reading.unlock();
+        }
+    }
+
+    @Override
+    public Stream<Map<String, String>> stream(final Set<String> columns,
+        final String column, final Predicate<String> value) {
+        this.reading.lock();
+        try (Stream<Map<String, String>> rows = this.origin.stream(columns, column, value)) {
+            return rows.collect(Collectors.toList()).stream();
+        } finally {
+            this.reading.unlock();
+        }
+    }
+
+    @Override
+    public Optional<String> version() {
+        this.reading.lock();
+        try {
+            return this.origin.version();
+        } finally {
+            this.reading.unlock();
         }
     }
 
     @Override
     public void write(final Collection<Map<String, String>> rows) {
-        this.lock.lock();
+        this.writing.lock();
         try {
             this.origin.write(rows);
         } finally {
-            this.lock.unlock();
+            this.writing.unlock();
+        }
+    }
+
+    @Override
+    public void write(final Collection<Map<String, String>> rows,
+        final Collection<Map<String, String>> changed) {
+        this.writing.lock();
+        try {
+            this.origin.write(rows, changed);
+        } finally {
+            this.writing.unlock();
         }
     }
 
@@ -4,17 +4,29 @@
  */
 package com.yegor256.tojos;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Text file where each line contains columns separated by tabs.
@@ -25,17 +37,69 @@ import java.util.Map;
  * id:Walter%20Sobchak   salary: $4,000   age: 40
  * </pre>
  *
+ * <p>In the log mode, which is off by default, when only some rows changed,
+ * see {@link Mono#write(Collection, Collection)}, they are appended to the
+ * end of the file, with an exclamation mark in front, instead of rewriting
+ * the whole file:</p>
+ *
+ * <pre> !id:Jeff%20Lebowski   salary: $6,000   age: 35</pre>
+ *
+ * <p>Such a line replaces the row with the same id, or adds a new row, when
+ * the file is read. The exclamation mark is always URL-encoded inside keys
+ * and values, so a usual line never starts with it. The file is compacted
+ * back to one line per row when this object is closed, or when more lines
+ * were appended than there are rows. Until then, versions of this library
+ * before 1.0, and other programs that read the file, see the appended lines
+ * as rows of their own, with wrong ids, so turn the log mode on only if
+ * all readers of the file are this class. Files with appended lines are
+ * read in any mode.</p>
+ *
  * <p>The class is NOT thread-safe.</p>
  *
  * @since 0.7.0
  */
 public final class MnTabs implements Mono {
 
+    /**
+     * The prefix of an appended line.
+     */
+    private static final String APPENDED = "!";
+
+    /**
+     * The largest part of a file that is mapped into memory at once.
+     */
+    private static final long WINDOW = Integer.MAX_VALUE;
+
     /**
      * The file where to keep them.
      */
     private final Path file;
 
+    /**
+     * The version of the file.
+     */
+    private final Stamp stamp;
+
+    /**
+     * How many lines were appended since the file was written in full.
+     */
+    private final AtomicInteger appended;
+
+    /**
+     * How many bytes to map into memory at once, or zero if not mapped.
+     */
+    private final long window;
+
+    /**
+     * How to save the file.
+     */
+    private final Save save;
+
+    /**
+     * Append changed rows to the end of the file, instead of writing it all?
+     */
+    private final boolean log;
+
     /**
      * Ctor.
      *
@@ -44,7 +108,87 @@ public final class MnTabs implements Mono {
      * @param path The path to the file
      */
     public MnTabs(final Path path) {
+        this(path, false);
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>If the file is mapped, {@link #read()} maps it into memory and parses
+     * its bytes right there, see {@link TabsBytes}, instead of reading it
+     * line by line. A file larger than 2Gb is mapped part by part, each
+     * ending with a whole line. It is faster, but the mapping is released
+     * only when the garbage collector gets to it: on Windows the file can't
+     * be written until then.</p>
+     *
+     * @param path The path to the file
+     * @param map Read the file by mapping it into memory?
+     * @since 1.0
+     */
+    public MnTabs(final Path path, final boolean map) {
+        this(path, map, new SvDirect());
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>Keep in mind that in the log mode {@link SvAtomic} copies the whole
+     * file to add the changed rows to its end, so such a write costs as much
+     * as the size of the file, not of the rows changed.</p>
+     *
+     * @param path The path to the file
+     * @param how How to save the file, for example {@link SvAtomic}
+     * @since 1.0
+     */
+    public MnTabs(final Path path, final Save how) {
+        this(path, false, how);
+    }
+
+    /**
+     * Ctor.
+     * @param path The path to the file
+     * @param map Read the file by mapping it into memory?
+     * @param how How to save the file, for example {@link SvAtomic}
+     * @since 1.0
+     */
+    public MnTabs(final Path path, final boolean map, final Save how) {
+        this(path, map, how, false);
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>In the log mode, changed rows are appended to the end of the file,
+     * which older versions of this library can't read correctly, see the
+     * description of the class.</p>
+     *
+     * @param path The path to the file
+     * @param map Read the file by mapping it into memory?
+     * @param how How to save the file, for example {@link SvAtomic}
+     * @param append Append changed rows to the end of the file?
+     * @since 1.0
+     */
+    public MnTabs(final Path path, final boolean map, final Save how,
+        final boolean append) {
+        // @checkstyle ConstructorsCodeFreeCheck (1 line)
+        this(path, MnTabs.window(map), how, append);
+    }
+
+    /**
+     * Ctor.
+     * @param path The path to the file
+     * @param bytes How many bytes to map into memory at once, or zero
+     * @param how How to save the file
+     * @param append Append changed rows to the end of the file?
+     */
+    MnTabs(final Path path, final long bytes, final Save how,
+        final boolean append) {
         this.file = path;
+        this.stamp = new Stamp(path);
+        this.appended = new AtomicInteger();
+        this.window = bytes;
+        this.save = how;
+        this.log = append;
     }
 
     @Override
@@ -54,53 +198,59 @@ public final class MnTabs implements Mono {
 
     @Override
     public Collection<Map<String, String>> read() {
-        final Collection<Map<String, String>> rows = new ArrayList<>(0);
-        if (Files.exists(this.file)) {
-            final List<String> lines;
-            try {
-                lines = Files.readAllLines(
-                    this.file, StandardCharsets.UTF_8
-                );
-            } catch (final IOException ex) {
-                throw new IllegalArgumentException(
-                    String.format("Failed to read JSON from '%s'", this.file),
-                    ex
-                );
-            }
-            for (final String line : lines) {
-                final Map<String, String> row = new HashMap<>(1);
-                if (!line.isEmpty()) {
-                    final String[] cols = line.split("\t", 0);
-                    for (final String part : cols) {
-                        final String[] parts = part.split(":", 2);
-                        row.put(MnTabs.decode(parts[0]), MnTabs.decode(parts[1]));
-                    }
-                }
-                rows.add(row);
+        return this.rows(column -> true);
+    }
+
+    @Override
+    public Collection<Map<String, String>> read(final Set<String> columns) {
+        final Collection<Map<String, String>> rows = this.rows(
+            column -> Tojos.ID_KEY.equals(column) || columns.contains(column)
+        );
+        if (!columns.contains(Tojos.ID_KEY)) {
+            for (final Map<String, String> row : rows) {
+                row.remove(Tojos.ID_KEY);
             }
         }
         return rows;
     }
 
+    @Override
+    public Stream<Map<String, String>> stream() {
+        return this.lazy(column -> true, line -> true, row -> true);
+    }
+
+    @Override
+    public Stream<Map<String, String>> stream(final Set<String> columns,
+        final String column, final Predicate<String> value) {
+        final String prefix = String.format("%s:", MnTabs.encode(column));
+        return this.lazy(
+            key -> Tojos.ID_KEY.equals(key) || columns.contains(key),
+            line -> MnTabs.cell(line, prefix).map(MnTabs::decode).filter(value).isPresent(),
+            row -> row.containsKey(column) && value.test(row.get(column))
+        ).map(
+            row -> {
+                if (!columns.contains(Tojos.ID_KEY)) {
+                    row.remove(Tojos.ID_KEY);
+                }
+                return row;
+            }
+        );
+    }
+
+    @Override
+    public Optional<String> version() {
+        return Optional.of(this.stamp.version());
+    }
+
     @Override
     public void write(final Collection<Map<String, String>> rows) {
         final Collection<String> lines = new ArrayList<>(rows.size());
         for (final Map<String, String> row : rows) {
-            final Collection<String> cols = new ArrayList<>(row.size());
-            for (final Map.Entry<String, String> ent : row.entrySet()) {
-                cols.add(
-                    String.format(
-                        "%s:%s",
-                        MnTabs.encode(ent.getKey()),
-                        MnTabs.encode(ent.getValue())
-                    )
-                );
-            }
-            lines.add(String.join("\t", cols));
+            lines.add(MnTabs.line(row));
         }
         this.file.toFile().getParentFile().mkdirs();
         try {
-            Files.write(this.file, lines, StandardCharsets.UTF_8);
+            this.save.write(this.file, MnTabs.printed(lines));
         } catch (final IOException ex) {
             throw new IllegalArgumentException(
                 String.format(
@@ -110,11 +260,271 @@ public final class MnTabs implements Mono {
                 ex
             );
         }
+        this.appended.set(0);
+        this.stamp.written();
+    }
+
+    @Override
+    public void write(final Collection<Map<String, String>> rows,
+        final Collection<Map<String, String>> changed) {
+        final boolean identified = changed.stream().allMatch(
+            row -> row.containsKey(Tojos.ID_KEY)
+        );
+        if (!this.log || !identified || !Files.exists(this.file)
+            || this.appended.get() + changed.size() > rows.size()) {
+            this.write(rows);
+        } else {
+            final Collection<String> lines = new ArrayList<>(changed.size());
+            for (final Map<String, String> row : changed) {
+                lines.add(String.format("%s%s", MnTabs.APPENDED, MnTabs.line(row)));
+            }
+            try {
+                this.save.append(this.file, MnTabs.printed(lines));
+            } catch (final IOException ex) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Failed to append %d rows to '%s'",
+                        changed.size(), this.file
+                    ),
+                    ex
+                );
+            }
+            this.appended.addAndGet(changed.size());
+            this.stamp.written();
+        }
     }
 
     @Override
     public void close() {
-        // nothing to close here
+        if (this.appended.get() > 0) {
+            this.write(this.read());
+        }
+    }
+
+    private List<Map<String, String>> rows(final Predicate<String> wanted) {
+        final List<Map<String, String>> rows = new ArrayList<>(0);
+        if (Files.exists(this.file)) {
+            final Map<String, Integer> positions = new HashMap<>(0);
+            if (this.window > 0L) {
+                this.mapped(rows, positions, wanted);
+            } else {
+                final List<String> lines;
+                try {
+                    lines = Files.readAllLines(
+                        this.file, StandardCharsets.UTF_8
+                    );
+                } catch (final IOException ex) {
+                    throw new IllegalArgumentException(
+                        String.format("Failed to read JSON from '%s'", this.file),
+                        ex
+                    );
+                }
+                for (final String line : lines) {
+                    if (line.startsWith(MnTabs.APPENDED)) {
+                        MnTabs.place(
+                            rows, positions, true,
+                            MnTabs.parsed(
+                                line.substring(MnTabs.APPENDED.length()), wanted
+                            )
+                        );
+                    } else {
+                        MnTabs.place(
+                            rows, positions, false, MnTabs.parsed(line, wanted)
+                        );
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    private void mapped(final List<Map<String, String>> rows,
+        final Map<String, Integer> positions, final Predicate<String> wanted) {
+        try (FileChannel channel = FileChannel.open(this.file)) {
+            final long size = channel.size();
+            long start = 0L;
+            while (start < size) {
+                final ByteBuffer buf = channel.map(
+                    FileChannel.MapMode.READ_ONLY, start,
+                    Math.min(this.window, size - start)
+                );
+                int end = buf.limit();
+                if (start + end < size) {
+                    while (end > 0 && buf.get(end - 1) != '\n') {
+                        --end;
+                    }
+                    if (end == 0) {
+                        throw new IllegalArgumentException(
+                            String.format(
+                                "The line at %d in '%s' is longer than %d bytes, can't map it",
+                                start, this.file, this.window
+                            )
+                        );
+                    }
+                }
+                buf.limit(end);
+                new TabsBytes(buf, wanted).forEach(
+                    (later, row) -> MnTabs.place(rows, positions, later, row)
+                );
+                start += end;
+            }
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException(
+                String.format("Failed to map tabs from '%s'", this.file),
+                ex
+            );
+        }
+    }
+
+    private Stream<Map<String, String>> lazy(final Predicate<String> wanted,
+        final Predicate<String> accepted, final Predicate<Map<String, String>> passes) {
+        final Stream<Map<String, String>> rows;
+        if (Files.exists(this.file)) {
+            final Map<String, Map<String, String>> later = new LinkedHashMap<>(0);
+            try (Stream<String> lines = this.lines()) {
+                lines
+                    .filter(line -> line.startsWith(MnTabs.APPENDED))
+                    .map(
+                        line -> MnTabs.parsed(
+                            line.substring(MnTabs.APPENDED.length()), wanted
+                        )
+                    )
+                    .forEach(row -> later.put(row.get(Tojos.ID_KEY), row));
+            }
+            final Collection<String> replaced = new HashSet<>(later.size());
+            final String prefix = String.format("%s:", MnTabs.encode(Tojos.ID_KEY));
+            rows = Stream.concat(
+                this.lines()
+                    .filter(line -> !line.startsWith(MnTabs.APPENDED))
+                    .filter(
+                        line -> accepted.test(line) || !later.isEmpty()
+                            && MnTabs.cell(line, prefix).map(MnTabs::decode)
+                                .filter(later::containsKey).isPresent()
+                    )
+                    .map(line -> MnTabs.parsed(line, wanted))
+                    .map(
+                        row -> {
+                            final String id = row.get(Tojos.ID_KEY);
+                            Map<String, String> found = row;
+                            if (later.containsKey(id) && replaced.add(id)) {
+                                found = later.get(id);
+                            }
+                            return found;
+                        }
+                    )
+                    .filter(passes),
+                later.values().stream().filter(
+                    row -> !replaced.contains(row.get(Tojos.ID_KEY))
+                ).filter(passes)
+            );
+        } else {
+            rows = Stream.empty();
+        }
+        return rows;
+    }
+
+    private static void place(final List<Map<String, String>> rows,
+        final Map<String, Integer> positions, final boolean later,
+        final Map<String, String> row) {
+        final Integer pos = positions.get(row.get(Tojos.ID_KEY));
+        if (later && pos != null) {
+            rows.set(pos, row);
+        } else {
+            if (row.containsKey(Tojos.ID_KEY)) {
+                positions.putIfAbsent(row.get(Tojos.ID_KEY), rows.size());
+            }
+            rows.add(row);
+        }
+    }
+
+    private Stream<String> lines() {
+        try {
+            return Files.lines(this.file, StandardCharsets.UTF_8);
+        } catch (final IOException ex) {
+            throw new IllegalArgumentException(
+                String.format("Failed to read tabs from '%s'", this.file),
+                ex
+            );
+        }
+    }
+
+    private static long window(final boolean map) {
+        long bytes = 0L;
+        if (map) {
+            bytes = MnTabs.WINDOW;
+        }
+        return bytes;
+    }
+
+    private static Optional<String> cell(final String line, final String prefix) {
+        Optional<String> cell = Optional.empty();
+        int start = 0;
+        while (start < line.length()) {
+            int end = line.indexOf('\t', start);
+            if (end < 0) {
+                end = line.length();
+            }
+            if (line.startsWith(prefix, start)) {
+                cell = Optional.of(line.substring(start + prefix.length(), end));
+                break;
+            }
+            start = end + 1;
+        }
+        return cell;
+    }
+
+    /**
+     * Parse one line of the file.
+     * @param line The line, without the mark of an appended one
+     * @param wanted Which keys to keep
+     * @return The row
+     */
+    static Map<String, String> parsed(final String line,
+        final Predicate<String> wanted) {
+        final Map<String, String> row = new HashMap<>(1);
+        if (!line.isEmpty()) {
+            final String[] cols = line.split("\t", 0);
+            for (final String part : cols) {
+                final String[] parts = part.split(":", 2);
+                final String key = MnTabs.decode(parts[0]);
+                if (wanted.test(key)) {
+                    row.put(key, MnTabs.decode(parts[1]));
+                }
+            }
+        }
+        return row;
+    }
+
+    private static Save.Content printed(final Collection<String> lines) {
+        return out -> {
+            try (Writer writer = new BufferedWriter(
+                new OutputStreamWriter(out, StandardCharsets.UTF_8)
+            )) {
+                for (final String line : lines) {
+                    writer.write(line);
+                    writer.write(System.lineSeparator());
+                }
+            }
+        };
+    }
+
+    /**
+     * Print one row as a line of the file.
+     * @param row The row
+     * @return The line, without line break
+     */
+    static String line(final Map<String, String> row) {
+        final Collection<String> cols = new ArrayList<>(row.size());
+        for (final Map.Entry<String, String> ent : row.entrySet()) {
+            cols.add(
+                String.format(
+                    "%s:%s",
+                    MnTabs.encode(ent.getKey()),
+                    MnTabs.encode(ent.getValue())
+                )
+            );
+        }
+        return String.join("\t", cols);
     }
 
     private static String encode(final String txt) {
@@ -4,13 +4,19 @@
  */
 package com.yegor256.tojos;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.yaml.snakeyaml.Yaml;
 
 /**
@@ -24,12 +30,34 @@ public final class MnYaml implements Mono {
      */
     private final Path destination;
 
+    /**
+     * The version of the file.
+     */
+    private final Stamp stamp;
+
+    /**
+     * How to save the file.
+     */
+    private final Save save;
+
     /**
      * Ctor.
      * @param path Destination where to keep the data
      */
     public MnYaml(final Path path) {
+        this(path, new SvDirect());
+    }
+
+    /**
+     * Ctor.
+     * @param path Destination where to keep the data
+     * @param how How to save the file, for example {@link SvAtomic}
+     * @since 1.0
+     */
+    public MnYaml(final Path path, final Save how) {
         this.destination = path;
+        this.stamp = new Stamp(path);
+        this.save = how;
     }
 
     @Override
@@ -41,10 +69,16 @@ public final class MnYaml implements Mono {
     @SuppressWarnings("unchecked")
     public Collection<Map<String, String>> read() {
         final Collection<Map<String, String>> result = new ArrayList<>(0);
-        try {
-            final Object loaded = new Yaml().load(
-                Files.newInputStream(this.destination)
-            );
+        if (Files.exists(this.destination)) {
+            final Object loaded;
+            try (InputStream input = Files.newInputStream(this.destination)) {
+                loaded = new Yaml().load(input);
+            } catch (final IOException exception) {
+                throw new IllegalArgumentException(
+                    String.format("Failed to read YAML from '%s'", this.destination),
+                    exception
+                );
+            }
             if (loaded != null) {
                 if (!(loaded instanceof List)) {
                     throw new IllegalArgumentException(
@@ -57,21 +91,27 @@ public final class MnYaml implements Mono {
                 }
                 result.addAll((List<Map<String, String>>) loaded);
             }
-        } catch (final IOException exception) {
-            throw new IllegalArgumentException(
-                String.format("Failed to read YAML from '%s'", this.destination),
-                exception
-            );
         }
         return result;
     }
 
+    @Override
+    public Optional<String> version() {
+        return Optional.of(this.stamp.version());
+    }
+
     @Override
     public void write(final Collection<Map<String, String>> rows) {
         try {
-            new Yaml().dump(
-                rows,
-                Files.newBufferedWriter(this.destination)
+            this.save.write(
+                this.destination,
+                out -> {
+                    try (Writer writer = new BufferedWriter(
+                        new OutputStreamWriter(out, StandardCharsets.UTF_8)
+                    )) {
+                        new Yaml().dump(rows, writer);
+                    }
+                }
             );
         } catch (final IOException exception) {
             throw new IllegalArgumentException(
@@ -79,6 +119,7 @@ public final class MnYaml implements Mono {
                 exception
             );
         }
+        this.stamp.written();
     }
 
     @Override
@@ -5,8 +5,15 @@
 package com.yegor256.tojos;
 
 import java.io.Closeable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Collection of rows, read/write.
@@ -28,9 +35,108 @@ public interface Mono extends Closeable {
      */
     Collection<Map<String, String>> read();
 
+    /**
+     * Read them all, but only some of their columns.
+     *
+     * <p>Every row is there, in the same order as in {@link #read()}, even if
+     * it has none of the columns. A mono that keeps its rows in a file may
+     * skip other columns while reading it, without making strings of them.
+     * By default, all rows are read and then copied without other
+     * columns.</p>
+     *
+     * @param columns The columns to read
+     * @return The list of all lines, modifiable
+     * @since 1.0
+     */
+    default Collection<Map<String, String>> read(final Set<String> columns) {
+        return this.read().stream().map(
+            row -> {
+                final Map<String, String> projected = new HashMap<>(columns.size());
+                for (final String column : columns) {
+                    final String value = row.get(column);
+                    if (value != null) {
+                        projected.put(column, value);
+                    }
+                }
+                return projected;
+            }
+        ).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * Read them one by one, as they are needed.
+     *
+     * <p>A mono that keeps its rows in a file may read it lazily, without
+     * keeping all rows in memory at once; then the stream must be closed,
+     * to close the file. By default, all rows are read at once.</p>
+     *
+     * @return The stream of all lines
+     * @since 1.0
+     */
+    default Stream<Map<String, String>> stream() {
+        return this.read().stream();
+    }
+
+    /**
+     * Read one by one only those rows that have the column with a value
+     * that passes, and only some of their columns.
+     *
+     * <p>A mono that keeps its rows in a file may skip other rows and other
+     * columns while reading it, without making maps and strings of them.
+     * The stream must be closed, as the one of {@link #stream()}. By
+     * default, the columns are read by {@link #read(Set)} and then the rows
+     * are filtered.</p>
+     *
+     * @param columns The columns to read, the column among them
+     * @param column The column
+     * @param value Does the value of the column pass?
+     * @return The stream of lines that pass
+     * @since 1.0
+     */
+    default Stream<Map<String, String>> stream(final Set<String> columns,
+        final String column, final Predicate<String> value) {
+        return this.read(columns).stream().filter(
+            row -> row.containsKey(column) && value.test(row.get(column))
+        );
+    }
+
+    /**
+     * The version of the rows, which changes every time they change.
+     *
+     * <p>Two equal versions mean that the rows read are the same, so those
+     * read before may be used again, without reading them again. A mono
+     * that keeps its rows in a file may tell the version by the number of
+     * writes made through it and by the time of modification and the size
+     * of the file. By default, the version is unknown and the rows must be
+     * read every time.</p>
+     *
+     * @return The version, if it's known
+     * @since 1.0
+     */
+    default Optional<String> version() {
+        return Optional.empty();
+    }
+
     /**
      * Write them all back.
      * @param rows The list of all lines
      */
     void write(Collection<Map<String, String>> rows);
+
+    /**
+     * Write them all back, knowing which of them changed.
+     *
+     * <p>The changed rows must be among all the rows and must have their
+     * ids; nothing else may differ from what was read: no row removed and
+     * no other row touched. A mono that can save only these rows, without
+     * rewriting all of them, does so. By default, all rows are written.</p>
+     *
+     * @param rows The list of all lines
+     * @param changed The lines that were changed or added since the last read
+     * @since 1.0
+     */
+    default void write(final Collection<Map<String, String>> rows,
+        final Collection<Map<String, String>> changed) {
+        this.write(rows);
+    }
 }
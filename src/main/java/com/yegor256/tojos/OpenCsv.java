@@ -0,0 +1,50 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.CSVWriter;
+import com.opencsv.ICSVWriter;
+import com.opencsv.RFC4180ParserBuilder;
+import com.opencsv.exceptions.CsvValidationException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * CSV, as OpenCSV reads and prints it.
+ *
+ * <p>Only this class touches OpenCSV, so {@link MnCsv} works without
+ * it in the classpath, when {@link Rfc4180} is used.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @see <a href="https://geekprompt.github.io/Properly-handling-backshlash-while-using-openCSV/">Properly
+ *  handling backslash while using openCSV</a>
+ * @since 1.0
+ */
+final class OpenCsv implements Csv {
+
+    @Override
+    public Csv.Lines lines(final Reader reader) {
+        final CSVReader csv = new CSVReaderBuilder(reader).withCSVParser(
+            new RFC4180ParserBuilder().build()
+        ).build();
+        return () -> {
+            try {
+                return csv.readNext();
+            } catch (final CsvValidationException ex) {
+                throw new IOException(ex);
+            }
+        };
+    }
+
+    @Override
+    public Csv.Printer printer(final Writer writer) {
+        final ICSVWriter csv = new CSVWriter(writer);
+        return csv::writeNext;
+    }
+}
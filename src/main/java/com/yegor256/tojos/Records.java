@@ -0,0 +1,208 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records of a CSV file, as RFC 4180 says, one after another.
+ *
+ * <p>The chars are read into a large buffer and cells are cut right out of
+ * it, unless a cell is quoted or crosses the end of the buffer. A cell may
+ * be in double quotes, with commas, line breaks and doubled quotes inside.
+ * Lines may end with either CRLF or LF. What follows the closing quote of
+ * a cell, before the next comma, is added to it, as OpenCSV does.</p>
+ *
+ * <p>The class is NOT thread-safe.</p>
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc4180">RFC 4180</a>
+ * @since 1.0
+ */
+final class Records {
+
+    /**
+     * Size of the buffer, in chars.
+     */
+    private static final int SIZE = 1 << 16;
+
+    /**
+     * The reader.
+     */
+    private final Reader reader;
+
+    /**
+     * Read equal values as one string?
+     */
+    private final boolean intern;
+
+    /**
+     * The values read so far, if they are interned.
+     */
+    private final Map<String, String> pool;
+
+    /**
+     * The chars read.
+     */
+    private final char[] buffer;
+
+    /**
+     * The cells of the line being read.
+     */
+    private final List<String> cells;
+
+    /**
+     * The cell being read, if it's not cut right out of the buffer.
+     */
+    private final StringBuilder text;
+
+    /**
+     * Position of the next char in the buffer.
+     */
+    private int pos;
+
+    /**
+     * How many chars there are in the buffer.
+     */
+    private int limit;
+
+    /**
+     * Ctor.
+     * @param input The reader
+     * @param values Read equal values as one string?
+     */
+    Records(final Reader input, final boolean values) {
+        this.reader = input;
+        this.intern = values;
+        this.pool = new HashMap<>(0);
+        this.buffer = new char[Records.SIZE];
+        this.cells = new ArrayList<>(0);
+        this.text = new StringBuilder(0);
+    }
+
+    /**
+     * Read the next record.
+     * @return Its cells or NULL if there are no more records
+     * @throws IOException If fails
+     */
+    String[] next() throws IOException {
+        String[] record = null;
+        if (this.pos < this.limit || this.fill()) {
+            this.cells.clear();
+            while (this.cell()) {
+                continue;
+            }
+            record = this.cells.toArray(new String[0]);
+        }
+        return record;
+    }
+
+    private boolean cell() throws IOException {
+        this.text.setLength(0);
+        String cell = null;
+        if (this.peek() == '"') {
+            ++this.pos;
+            this.quoted();
+        } else {
+            final int start = this.pos;
+            this.skip();
+            if (this.pos < this.limit) {
+                cell = new String(this.buffer, start, this.pos - start);
+            } else {
+                this.text.append(this.buffer, start, this.pos - start);
+            }
+        }
+        if (cell == null) {
+            this.plain();
+            cell = this.text.toString();
+        }
+        this.cells.add(this.value(cell));
+        final int end = this.peek();
+        if (end >= 0) {
+            ++this.pos;
+        }
+        if (end == '\r' && this.peek() == '\n') {
+            ++this.pos;
+        }
+        return end == ',';
+    }
+
+    private void quoted() throws IOException {
+        boolean open = true;
+        while (open) {
+            final int start = this.pos;
+            while (this.pos < this.limit && this.buffer[this.pos] != '"') {
+                ++this.pos;
+            }
+            this.text.append(this.buffer, start, this.pos - start);
+            if (this.pos < this.limit) {
+                ++this.pos;
+                if (this.peek() == '"') {
+                    this.text.append('"');
+                    ++this.pos;
+                } else {
+                    open = false;
+                }
+            } else if (!this.fill()) {
+                open = false;
+            }
+        }
+    }
+
+    private void plain() throws IOException {
+        boolean more = true;
+        while (more) {
+            final int start = this.pos;
+            this.skip();
+            this.text.append(this.buffer, start, this.pos - start);
+            more = this.pos == this.limit && this.fill();
+        }
+    }
+
+    private void skip() {
+        while (this.pos < this.limit && !Records.ends(this.buffer[this.pos])) {
+            ++this.pos;
+        }
+    }
+
+    private String value(final String cell) {
+        String value = cell;
+        if (this.intern) {
+            final String before = this.pool.putIfAbsent(cell, cell);
+            if (before != null) {
+                value = before;
+            }
+        }
+        return value;
+    }
+
+    private int peek() throws IOException {
+        final int chr;
+        if (this.pos < this.limit || this.fill()) {
+            chr = this.buffer[this.pos];
+        } else {
+            chr = -1;
+        }
+        return chr;
+    }
+
+    private boolean fill() throws IOException {
+        int read = 0;
+        while (read == 0) {
+            read = this.reader.read(this.buffer);
+        }
+        this.pos = 0;
+        this.limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    private static boolean ends(final char chr) {
+        return chr == ',' || chr == '\n' || chr == '\r';
+    }
+}
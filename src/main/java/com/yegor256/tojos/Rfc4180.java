@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.io.Reader;
+import java.io.Writer;
+
+/**
+ * CSV, as RFC 4180 says, without OpenCSV.
+ *
+ * <p>The lines are parsed by {@link Records}, right from a buffer of chars,
+ * and printed the same way OpenCSV prints them: every cell in double quotes,
+ * with the quotes inside doubled, and lines separated by LF. Equal values
+ * may be read as one string, if asked, which saves memory when a column has
+ * just a few values repeated in many rows.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc4180">RFC 4180</a>
+ * @since 1.0
+ */
+final class Rfc4180 implements Csv {
+
+    /**
+     * Read equal values as one string?
+     */
+    private final boolean intern;
+
+    /**
+     * Ctor.
+     * @param values Read equal values as one string?
+     */
+    Rfc4180(final boolean values) {
+        this.intern = values;
+    }
+
+    @Override
+    public Csv.Lines lines(final Reader reader) {
+        return new Records(reader, this.intern)::next;
+    }
+
+    @Override
+    public Csv.Printer printer(final Writer writer) {
+        return cells -> {
+            for (int pos = 0; pos < cells.length; ++pos) {
+                if (pos > 0) {
+                    writer.write(',');
+                }
+                writer.write('"');
+                final String cell = cells[pos];
+                int start = 0;
+                int quote = cell.indexOf('"');
+                while (quote >= 0) {
+                    writer.write(cell, start, quote - start + 1);
+                    writer.write('"');
+                    start = quote + 1;
+                    quote = cell.indexOf('"', start);
+                }
+                writer.write(cell, start, cell.length() - start);
+                writer.write('"');
+            }
+            writer.write('\n');
+        };
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+/**
+ * How a {@link Mono} saves its file.
+ *
+ * <p>It opens the stream to print the content into and decides what
+ * others see while it goes on, for example {@link SvDirect}, which prints
+ * right into the file, or {@link SvAtomic}, which prints into a file nearby
+ * and then moves it to its place. Implementations must be thread-safe.</p>
+ *
+ * @since 1.0
+ */
+public interface Save {
+
+    /**
+     * Save the file, with this content only.
+     * @param file The file
+     * @param content The content
+     * @throws IOException If fails
+     */
+    void write(Path file, Save.Content content) throws IOException;
+
+    /**
+     * Add this content to the end of the file.
+     * @param file The file, which exists
+     * @param content The content to add
+     * @throws IOException If fails
+     */
+    void append(Path file, Save.Content content) throws IOException;
+
+    /**
+     * The content of a file.
+     *
+     * @since 1.0
+     */
+    @FunctionalInterface
+    interface Content {
+
+        /**
+         * Print it.
+         * @param out The stream to print to, which may be closed after that
+         * @throws IOException If fails
+         */
+        void print(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Items that pass a predicate, tested one by one or in parallel.
+ *
+ * <p>When there are at least as many items as the threshold, they are
+ * collected first and then tested by the threads of the given pool, while
+ * those that pass are kept in the order they arrived. Otherwise, they are
+ * tested one by one, in the thread of the caller. By default, they are never
+ * tested in parallel and are not even collected before testing.</p>
+ *
+ * <p>The class is thread-safe, but the predicate must be thread-safe
+ * too, if it may be tested in parallel.</p>
+ *
+ * @since 1.0
+ */
+final class Sieve {
+
+    /**
+     * The threshold that is never reached.
+     */
+    private static final int NEVER = Integer.MAX_VALUE;
+
+    /**
+     * The pool to test items in.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * How many items there must be to test them in parallel.
+     */
+    private final int threshold;
+
+    /**
+     * Ctor.
+     */
+    Sieve() {
+        this(ForkJoinPool.commonPool(), Sieve.NEVER);
+    }
+
+    /**
+     * Ctor.
+     * @param threads The pool to test items in
+     * @param min How many items there must be to test them in parallel
+     */
+    Sieve(final ForkJoinPool threads, final int min) {
+        this.pool = threads;
+        this.threshold = min;
+    }
+
+    /**
+     * Items that pass.
+     * @param items The items, in order
+     * @param test The predicate
+     * @param <T> Type of items
+     * @return Those that pass, in the same order
+     */
+    <T> List<T> passed(final Stream<T> items, final Predicate<? super T> test) {
+        final List<T> passed;
+        if (this.threshold == Sieve.NEVER) {
+            passed = items.filter(test).collect(Collectors.toList());
+        } else {
+            final List<T> all = items.collect(Collectors.toList());
+            if (all.size() < this.threshold) {
+                passed = all.stream().filter(test).collect(Collectors.toList());
+            } else {
+                passed = this.parallel(all, test);
+            }
+        }
+        return passed;
+    }
+
+    private <T> List<T> parallel(final List<T> all, final Predicate<? super T> test) {
+        try {
+            return this.pool.submit(
+                () -> all.parallelStream().filter(test).collect(Collectors.toList())
+            ).get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalArgumentException(
+                String.format("Interrupted while testing %d items", all.size()),
+                ex
+            );
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalArgumentException(
+                String.format("Failed to test %d items in parallel", all.size()),
+                ex
+            );
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Rows of a {@link Mono}, read again only when its version changes.
+ *
+ * <p>The rows read last time are given out again, as long as the mono
+ * reports the same version, see {@link Mono#version()}. If it can't tell
+ * its version, the rows are read every time. The rows given out may be
+ * changed, but only to be written back through {@link #write(Collection,
+ * Collection)} right after that.</p>
+ *
+ * <p>After a write the rows written are kept, with the version the mono
+ * reports right after it. If someone else writes the file in between,
+ * the version includes their write, and it goes unnoticed until the next
+ * one, the same way as two writes that the {@link Stamp} of a file can't
+ * tell apart. Only one writer of the file is safe.</p>
+ *
+ * <p>The class is NOT thread-safe: it is shared by all tojos of one
+ * {@link TjDefault}, which touch it under their shared lock.</p>
+ *
+ * @since 1.0
+ */
+final class Snapshot {
+
+    /**
+     * The mono.
+     */
+    private final Mono mono;
+
+    /**
+     * The version of the mono the rows were read at.
+     */
+    private final AtomicReference<Optional<String>> version;
+
+    /**
+     * The rows read last time.
+     */
+    private final AtomicReference<Collection<Map<String, String>>> rows;
+
+    /**
+     * Ctor.
+     * @param mno The mono
+     */
+    Snapshot(final Mono mno) {
+        this.mono = mno;
+        this.version = new AtomicReference<>(Optional.empty());
+        this.rows = new AtomicReference<>(Collections.emptyList());
+    }
+
+    /**
+     * All rows of the mono, as they are now.
+     * @return The rows, modifiable
+     */
+    Collection<Map<String, String>> rows() {
+        final Optional<String> now = this.mono.version();
+        if (!now.isPresent() || !now.equals(this.version.get())) {
+            this.version.set(Optional.empty());
+            this.rows.set(this.mono.read());
+            this.version.set(now);
+        }
+        return this.rows.get();
+    }
+
+    /**
+     * Write them all back, knowing which of them changed.
+     * @param all The rows, as given by {@link #rows()} and then changed
+     * @param changed The rows that were changed or added
+     */
+    void write(final Collection<Map<String, String>> all,
+        final Collection<Map<String, String>> changed) {
+        this.version.set(Optional.empty());
+        this.mono.write(all, changed);
+        this.rows.set(all);
+        this.version.set(this.mono.version());
+    }
+}
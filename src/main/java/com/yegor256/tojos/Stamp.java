@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The version of a file, as {@link Mono#version()} reports it.
+ *
+ * <p>It is made of the number of writes made through the mono, and of
+ * the time of the last modification, the size and the key of the file.
+ * The writes of others are noticed by the file alone, so two of them made
+ * within the precision of the file system clock, that don't change the size,
+ * may go unnoticed. So may a write of others made right after a write
+ * through the mono, before its version is taken, see {@link Snapshot}.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+final class Stamp {
+
+    /**
+     * The file.
+     */
+    private final Path file;
+
+    /**
+     * How many times it was written through the mono.
+     */
+    private final AtomicLong writes;
+
+    /**
+     * Ctor.
+     * @param path The file
+     */
+    Stamp(final Path path) {
+        this.file = path;
+        this.writes = new AtomicLong();
+    }
+
+    /**
+     * The version of the file now.
+     * @return The version
+     */
+    String version() {
+        final String version;
+        if (Files.exists(this.file)) {
+            final BasicFileAttributes attrs;
+            try {
+                attrs = Files.readAttributes(this.file, BasicFileAttributes.class);
+            } catch (final IOException ex) {
+                throw new IllegalArgumentException(
+                    String.format("Failed to read attributes of '%s'", this.file),
+                    ex
+                );
+            }
+            version = String.format(
+                "%d/%d/%d/%s",
+                this.writes.get(),
+                attrs.lastModifiedTime().to(TimeUnit.NANOSECONDS),
+                attrs.size(),
+                attrs.fileKey()
+            );
+        } else {
+            version = String.format("%d/absent", this.writes.get());
+        }
+        return version;
+    }
+
+    /**
+     * The file was just written through the mono.
+     */
+    void written() {
+        this.writes.incrementAndGet();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+/**
+ * Save into a temporary file nearby and then move it to its place.
+ *
+ * <p>The move is atomic, see {@link StandardCopyOption#ATOMIC_MOVE}:
+ * others see either the file as it was before or as it is after, never
+ * a part of it, and a crash in the middle leaves the old file in place.
+ * Adding to the end of the file copies it first, so it costs more than
+ * with {@link SvDirect}.</p>
+ *
+ * <p>If synced, the temporary file is forced to the disk before it is
+ * moved, see {@link FileChannel#force(boolean)}, so that after a crash of
+ * the system, not only of the process, the file is either old or new,
+ * but not empty. The move itself may be lost in such a crash.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+public final class SvAtomic implements Save {
+
+    /**
+     * Force the temporary file to the disk before moving it?
+     */
+    private final boolean sync;
+
+    /**
+     * Ctor.
+     */
+    public SvAtomic() {
+        this(true);
+    }
+
+    /**
+     * Ctor.
+     * @param force Force the temporary file to the disk before moving it?
+     */
+    public SvAtomic(final boolean force) {
+        this.sync = force;
+    }
+
+    @Override
+    public void write(final Path file, final Save.Content content) throws IOException {
+        this.replace(file, content, false);
+    }
+
+    @Override
+    public void append(final Path file, final Save.Content content) throws IOException {
+        this.replace(file, content, true);
+    }
+
+    private void replace(final Path file, final Save.Content content,
+        final boolean keep) throws IOException {
+        final Path temp = file.resolveSibling(
+            String.format("%s.%s.tmp", file.getFileName(), UUID.randomUUID())
+        );
+        try {
+            if (keep) {
+                Files.copy(file, temp);
+            }
+            try (OutputStream out = new BufferedOutputStream(
+                Files.newOutputStream(
+                    temp, StandardOpenOption.CREATE, StandardOpenOption.APPEND
+                )
+            )) {
+                content.print(out);
+            }
+            if (this.sync) {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    channel.force(true);
+                }
+            }
+            Files.move(
+                temp, file,
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING
+            );
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Save right into the file.
+ *
+ * <p>It is the fastest way, but while it goes on, others may read a file
+ * that is written only partly, and a crash leaves it so.</p>
+ *
+ * <p>The class is thread-safe.</p>
+ *
+ * @since 1.0
+ */
+public final class SvDirect implements Save {
+
+    @Override
+    public void write(final Path file, final Save.Content content) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            content.print(out);
+        }
+    }
+
+    @Override
+    public void append(final Path file, final Save.Content content) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(
+            Files.newOutputStream(file, StandardOpenOption.APPEND)
+        )) {
+            content.print(out);
+        }
+    }
+}
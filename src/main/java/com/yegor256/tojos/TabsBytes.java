@@ -0,0 +1,160 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * Lines of a {@link MnTabs} file, parsed right from its bytes.
+ *
+ * <p>Unlike reading the file line by line, which makes a string of every
+ * line, then an array of its columns, then an array of every key and value,
+ * here the bytes are scanned for tabs, colons and line ends right in the
+ * buffer, without copying the lines out of it, and only keys and values
+ * become strings. Only those containing a percent or a
+ * plus sign go through the URL decoder; the rest are taken as they are.
+ * Values of unwanted keys are skipped, without making strings of them.</p>
+ *
+ * <p>The class is NOT thread-safe.</p>
+ *
+ * @since 1.0
+ */
+final class TabsBytes {
+
+    /**
+     * The bytes of the file.
+     */
+    private final ByteBuffer bytes;
+
+    /**
+     * Which keys to keep.
+     */
+    private final Predicate<String> wanted;
+
+    /**
+     * The bytes of a cell of a mapped file, before they become a string.
+     */
+    private byte[] scratch;
+
+    /**
+     * Ctor.
+     * @param buf The bytes of the file, from start to limit
+     */
+    TabsBytes(final ByteBuffer buf) {
+        this(buf, key -> true);
+    }
+
+    /**
+     * Ctor.
+     * @param buf The bytes of the file, from start to limit
+     * @param keys Which keys to keep
+     */
+    TabsBytes(final ByteBuffer buf, final Predicate<String> keys) {
+        this.bytes = buf;
+        this.wanted = keys;
+        this.scratch = new byte[64];
+    }
+
+    /**
+     * Give every line to the consumer, as a row.
+     * @param each Consumer of the row and whether it was appended
+     */
+    void forEach(final BiConsumer<Boolean, Map<String, String>> each) {
+        final int limit = this.bytes.limit();
+        int pos = this.bytes.position();
+        while (pos < limit) {
+            int end = pos;
+            while (end < limit && this.bytes.get(end) != '\n') {
+                ++end;
+            }
+            final int next = end + 1;
+            if (end > pos && this.bytes.get(end - 1) == '\r') {
+                --end;
+            }
+            final boolean later = end > pos && this.bytes.get(pos) == '!';
+            int start = pos;
+            if (later) {
+                ++start;
+            }
+            each.accept(later, this.row(start, end));
+            pos = next;
+        }
+    }
+
+    private Map<String, String> row(final int start, final int end) {
+        final Map<String, String> row = new HashMap<>(1);
+        int cell = start;
+        while (cell < end) {
+            int colon = -1;
+            int stop = cell;
+            while (stop < end && this.bytes.get(stop) != '\t') {
+                if (colon < 0 && this.bytes.get(stop) == ':') {
+                    colon = stop;
+                }
+                ++stop;
+            }
+            if (stop > cell) {
+                if (colon < 0) {
+                    throw new IllegalArgumentException(
+                        String.format(
+                            "There is no colon in the column '%s'",
+                            this.string(cell, stop)
+                        )
+                    );
+                }
+                final String key = this.text(cell, colon);
+                if (this.wanted.test(key)) {
+                    row.put(key, this.text(colon + 1, stop));
+                }
+            }
+            cell = stop + 1;
+        }
+        return row;
+    }
+
+    private String text(final int start, final int end) {
+        boolean encoded = false;
+        for (int pos = start; pos < end; ++pos) {
+            final byte chr = this.bytes.get(pos);
+            if (chr == '%' || chr == '+') {
+                encoded = true;
+                break;
+            }
+        }
+        final String text = this.string(start, end);
+        final String decoded;
+        if (encoded) {
+            decoded = URLDecoder.decode(text, StandardCharsets.UTF_8);
+        } else {
+            decoded = text;
+        }
+        return decoded;
+    }
+
+    private String string(final int start, final int end) {
+        final String text;
+        if (this.bytes.hasArray()) {
+            text = new String(
+                this.bytes.array(), this.bytes.arrayOffset() + start,
+                end - start, StandardCharsets.UTF_8
+            );
+        } else {
+            if (this.scratch.length < end - start) {
+                this.scratch = new byte[Math.max(end - start, this.scratch.length * 2)];
+            }
+            for (int pos = start; pos < end; ++pos) {
+                this.scratch[pos - start] = this.bytes.get(pos);
+            }
+            text = new String(this.scratch, 0, end - start, StandardCharsets.UTF_8);
+        }
+        return text;
+    }
+}
@@ -5,16 +5,55 @@
 package com.yegor256.tojos;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * The wrapper which caches underlying tojos.
  *
- * <p>This class is NOT thread-safe.</p>
+ * <p>Some attributes may be indexed: then {@link #select(Predicate)}
+ * with a {@link Filter} on one of them, for example
+ * {@code new FtEquals("status", "pending")}, doesn't test every tojo in
+ * the cache, but only every distinct value of the attribute.</p>
+ *
+ * <p>The number of tojos kept in memory may be limited: then the ones
+ * least recently used are evicted and, when needed again, are loaded from
+ * the underlying tojos, one by one, and indexed again. Only the ids of
+ * evicted tojos and the index stay in memory. Selecting by an indexed
+ * attribute touches only the tojos found, while any other
+ * {@link #select(Predicate)} loads every evicted one again: it is as many
+ * selections by id from the underlying tojos, each reading the row in full,
+ * which may be much slower than one pass over them. The tojos found by
+ * an indexed attribute are tested by the filter again, so a tojo loaded
+ * with a new value is not found by its old one. Keep in mind that a tojo
+ * loaded again is a new object:
+ * what is set through it is not seen by the object evicted before, if
+ * someone still holds it, and vice versa.</p>
+ *
+ * <p>The predicate of {@link #select(Predicate)} may be tested in parallel,
+ * in a {@link ForkJoinPool}, when there are at least the given number of
+ * tojos: then it must be thread-safe. The tojos found are in the same order
+ * as they would be without it.</p>
+ *
+ * <p>This class is NOT thread-safe, unless the cache container given is
+ * a {@link ConcurrentMap}, for example {@link ConcurrentHashMap}, and the
+ * underlying tojos are thread-safe. Then the cache is filled only once,
+ * while other threads wait, and after that {@link #select(Predicate)} and
+ * reading of tojos don't wait for anything. When the number of tojos is
+ * limited, the class is NOT thread-safe.</p>
  *
  * @since 1.0
  */
@@ -30,6 +69,31 @@ public final class TjCached implements Tojos {
      */
     private final Map<String, Tojo> cache;
 
+    /**
+     * Ids of all tojos, when some of them may be evicted from the cache.
+     */
+    private final Set<String> ids;
+
+    /**
+     * Index of attributes.
+     */
+    private final Attributes index;
+
+    /**
+     * Was the cache filled?
+     */
+    private final AtomicBoolean filled;
+
+    /**
+     * Lock for filling the cache.
+     */
+    private final ReentrantLock lock;
+
+    /**
+     * How tojos are tested by the predicate of select.
+     */
+    private final Sieve sieve;
+
     /**
      * Ctor.
      * @param tojos Tojos which need to be cached
@@ -38,14 +102,77 @@ public final class TjCached implements Tojos {
         this(tojos, new HashMap<>(0));
     }
 
+    /**
+     * Ctor.
+     * @param tojos Tojos which need to be cached
+     * @param keys Attributes to index
+     */
+    public TjCached(final Tojos tojos, final String... keys) {
+        this(tojos, new HashMap<>(0), new Attributes(keys), new Sieve());
+    }
+
     /**
      * Ctor.
      * @param origin Tojos which need to be cached
      * @param cache Cache container for tojos
      */
     public TjCached(final Tojos origin, final Map<String, Tojo> cache) {
+        this(origin, cache, new Attributes(), new Sieve());
+    }
+
+    /**
+     * Ctor.
+     * @param origin Tojos which need to be cached
+     * @param cache Cache container for tojos, empty
+     * @param keys Attributes to index
+     * @since 1.0
+     */
+    public TjCached(final Tojos origin, final Map<String, Tojo> cache,
+        final String... keys) {
+        this(origin, cache, new Attributes(keys), new Sieve());
+    }
+
+    /**
+     * Ctor.
+     * @param origin Tojos which need to be cached
+     * @param max How many tojos to keep in memory, at most
+     * @param keys Attributes to index
+     * @since 1.0
+     */
+    public TjCached(final Tojos origin, final int max, final String... keys) {
+        this(origin, new Lru(max), new Attributes(keys), new Sieve());
+    }
+
+    /**
+     * Ctor.
+     * @param origin Tojos which need to be cached
+     * @param cache Cache container for tojos, empty
+     * @param pool The pool to test tojos in, in parallel
+     * @param threshold How many tojos there must be to test them in parallel
+     * @param keys Attributes to index
+     * @since 1.0
+     */
+    public TjCached(final Tojos origin, final Map<String, Tojo> cache,
+        final ForkJoinPool pool, final int threshold, final String... keys) {
+        this(origin, cache, new Attributes(keys), new Sieve(pool, threshold));
+    }
+
+    /**
+     * Ctor.
+     * @param origin Tojos which need to be cached
+     * @param cache Cache container for tojos
+     * @param attrs Index of attributes
+     * @param svs How tojos are tested
+     */
+    private TjCached(final Tojos origin, final Map<String, Tojo> cache,
+        final Attributes attrs, final Sieve svs) {
         this.origin = origin;
         this.cache = cache;
+        this.ids = new LinkedHashSet<>(0);
+        this.index = attrs;
+        this.filled = new AtomicBoolean(false);
+        this.lock = new ReentrantLock();
+        this.sieve = svs;
     }
 
     @Override
@@ -56,20 +183,32 @@ public final class TjCached implements Tojos {
     @Override
     public Tojo add(final String name) {
         final Tojo added = this.origin.add(name);
-        final Tojo tojo = new ToCached(added, new HashMap<>(added.toMap()));
+        final Tojo tojo = this.cached(added);
+        if (this.cache instanceof Lru) {
+            this.ids.add(name);
+        }
         this.cache.put(name, tojo);
+        this.index.added(tojo.toMap());
         return tojo;
     }
 
     @Override
     public List<Tojo> select(final Predicate<Tojo> filter) {
-        if (this.cache.isEmpty()) {
+        if (!this.filled.get()) {
             this.fill();
         }
-        return this.cache.values()
-            .stream()
-            .filter(filter)
-            .collect(Collectors.toList());
+        final List<Tojo> found;
+        if (filter instanceof Filter && this.index.covers(((Filter) filter).key())) {
+            found = this.index.matching((Filter) filter)
+                .stream()
+                .map(this::loaded)
+                .filter(Objects::nonNull)
+                .filter(filter)
+                .collect(Collectors.toList());
+        } else {
+            found = this.sieve.passed(this.all(), filter);
+        }
+        return found;
     }
 
     @Override
@@ -78,11 +217,62 @@ public final class TjCached implements Tojos {
     }
 
     private void fill() {
-        this.cache.putAll(
-            this.origin.select(x -> true)
-                .stream()
-                .map(t -> new ToCached(t, new HashMap<>(t.toMap())))
-                .collect(Collectors.toMap(x -> x.get(Tojos.ID_KEY), x -> x, (x, y) -> x))
-        );
+        this.lock.lock();
+        try {
+            if (!this.filled.get()) {
+                if (this.cache.isEmpty()) {
+                    final Set<String> seen = new LinkedHashSet<>(0);
+                    for (final Tojo tojo : this.origin.select(x -> true)) {
+                        final Tojo cached = this.cached(tojo);
+                        final String id = cached.get(Tojos.ID_KEY);
+                        if (seen.add(id)) {
+                            this.index.added(cached.toMap());
+                            this.cache.put(id, cached);
+                        }
+                    }
+                    if (this.cache instanceof Lru) {
+                        this.ids.addAll(seen);
+                    }
+                }
+                this.filled.set(!this.cache.isEmpty());
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private Stream<Tojo> all() {
+        final Stream<Tojo> all;
+        if (this.cache instanceof Lru) {
+            all = new ArrayList<>(this.ids).stream()
+                .map(this::loaded)
+                .filter(Objects::nonNull);
+        } else {
+            all = this.cache.values().stream();
+        }
+        return all;
+    }
+
+    private Tojo loaded(final String id) {
+        Tojo tojo = this.cache.get(id);
+        if (tojo == null && this.ids.contains(id)) {
+            final List<Tojo> found = this.origin.select(new ById(id));
+            if (!found.isEmpty()) {
+                tojo = this.cached(found.get(0));
+                this.index.added(tojo.toMap());
+                this.cache.put(id, tojo);
+            }
+        }
+        return tojo;
+    }
+
+    private Tojo cached(final Tojo tojo) {
+        final Map<String, String> row;
+        if (this.cache instanceof ConcurrentMap) {
+            row = new ConcurrentHashMap<>(tojo.toMap());
+        } else {
+            row = new HashMap<>(tojo.toMap());
+        }
+        return new ToCached(tojo, row, this.index);
     }
 }
@@ -5,14 +5,19 @@
 package com.yegor256.tojos;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * All Tojos in a {@link Mono}.
@@ -22,7 +27,24 @@ import java.util.function.Predicate;
  * <p>The predicate of {@link TjDefault#select(Predicate)} is given the row
  * that has already been read, and not a tojo that goes back to the mono for
  * every cell it looks at: one selection reads the mono once, not once per row
- * in it.</p>
+ * in it. The row can't be changed by the predicate, see {@link ToView},
+ * and a tojo is made only for a row that passes. The rows are taken from
+ * {@link Mono#stream()} one by one, so a mono that reads its file lazily
+ * doesn't keep all of them in memory. With
+ * a {@link Filter}, the mono is asked to give only the rows that pass it,
+ * and only their ids and the cells the filter looks at, see
+ * {@link Mono#stream(java.util.Set, String, Predicate)}.</p>
+ *
+ * <p>Rows are found by their ids through an {@link Index}, shared with all
+ * tojos this object gives out, so a tojo that is touched again and again
+ * doesn't compare its id with every row of the mono each time. They all
+ * share a {@link Snapshot} of the rows too, so the mono is read again only
+ * when its version changes, see {@link Mono#version()}.</p>
+ *
+ * <p>The predicate may be tested in parallel, in a {@link ForkJoinPool},
+ * when the mono has at least the given number of rows: then they all are
+ * read first, and the predicate must be thread-safe. The tojos found are
+ * in the order of the rows in the mono anyway.</p>
  *
  * @since 0.3.0
  */
@@ -33,18 +55,56 @@ public final class TjDefault implements Tojos {
      */
     private final Mono mono;
 
+    /**
+     * Shared rows of the mono for all ToMono instances.
+     */
+    private final Snapshot snapshot;
+
     /**
      * Shared lock for all ToMono instances.
      */
     private final ReentrantLock lock;
 
+    /**
+     * Shared index of rows for all ToMono instances.
+     */
+    private final Index index;
+
+    /**
+     * How rows are tested by the predicate of select.
+     */
+    private final Sieve sieve;
+
     /**
      * Ctor.
      * @param mno The Mono (CSV or JSON)
      */
     public TjDefault(final Mono mno) {
+        this(mno, new Sieve());
+    }
+
+    /**
+     * Ctor.
+     * @param mno The Mono (CSV or JSON)
+     * @param pool The pool to test rows in, in parallel
+     * @param threshold How many rows there must be to test them in parallel
+     * @since 1.0
+     */
+    public TjDefault(final Mono mno, final ForkJoinPool pool, final int threshold) {
+        this(mno, new Sieve(pool, threshold));
+    }
+
+    /**
+     * Ctor.
+     * @param mno The Mono (CSV or JSON)
+     * @param svs How rows are tested
+     */
+    private TjDefault(final Mono mno, final Sieve svs) {
         this.mono = mno;
+        this.snapshot = new Snapshot(mno);
         this.lock = new ReentrantLock();
+        this.index = new Index();
+        this.sieve = svs;
     }
 
     @Override
@@ -54,34 +114,65 @@ public final class TjDefault implements Tojos {
 
     @Override
     public Tojo add(final String name) {
-        final Collection<Map<String, String>> rows = this.mono.read();
-        final Optional<Map<String, String>> before = rows.stream().filter(
-            r -> r.get(Tojos.ID_KEY).equals(name)
-        ).findFirst();
-        if (!before.isPresent()) {
-            final Map<String, String> row = new HashMap<>(1);
-            row.put(Tojos.ID_KEY, name);
-            rows.add(row);
-            this.mono.write(rows);
+        this.lock.lock();
+        try {
+            final Collection<Map<String, String>> rows = this.snapshot.rows();
+            if (!this.index.find(rows, name).isPresent()) {
+                final Map<String, String> row = new HashMap<>(1);
+                row.put(Tojos.ID_KEY, name);
+                rows.add(row);
+                this.snapshot.write(rows, Collections.singleton(row));
+                this.index.added(rows, name);
+            }
+        } finally {
+            this.lock.unlock();
         }
-        return new ToMono(this.mono, name, this.lock);
+        return this.tojo(name);
     }
 
     @Override
     public List<Tojo> select(final Predicate<Tojo> filter) {
-        final Collection<Map<String, String>> rows = this.mono.read();
-        final List<Tojo> tojos = new ArrayList<>(rows.size());
-        for (final Map<String, String> row : rows) {
-            final Tojo tojo = new ToMono(this.mono, row.get(Tojos.ID_KEY), this.lock);
-            if (filter.test(new ToCached(tojo, new HashMap<>(row)))) {
-                tojos.add(tojo);
-            }
+        try (Stream<Map<String, String>> rows = this.rows(filter)) {
+            return this.sieve.passed(rows, row -> filter.test(new ToView(row)))
+                .stream()
+                .map(row -> this.tojo(row.get(Tojos.ID_KEY)))
+                .collect(Collectors.toList());
         }
-        return tojos;
     }
 
     @Override
     public void close() throws IOException {
         this.mono.close();
     }
+
+    private Tojo tojo(final String id) {
+        return new ToMono(this.snapshot, id, this.lock, this.index);
+    }
+
+    private Optional<Map<String, String>> byId(final String id) {
+        this.lock.lock();
+        try {
+            return this.index.find(this.snapshot.rows(), id).map(HashMap::new);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private Stream<Map<String, String>> rows(final Predicate<Tojo> filter) {
+        final Stream<Map<String, String>> rows;
+        if (filter instanceof ById) {
+            rows = this.byId(((ById) filter).id())
+                .map(Stream::of)
+                .orElseGet(Stream::empty);
+        } else if (filter instanceof Filter) {
+            final Filter only = (Filter) filter;
+            rows = this.mono.stream(
+                new HashSet<>(Arrays.asList(Tojos.ID_KEY, only.key())),
+                only.key(), only::passes
+            );
+        } else {
+            rows = this.mono.stream();
+        }
+        return rows;
+    }
 }
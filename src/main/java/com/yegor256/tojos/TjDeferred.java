@@ -10,9 +10,9 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * All Tojos of a {@link Mono}, kept in memory and keyed by their ids.
@@ -28,6 +28,11 @@ import java.util.stream.Collectors;
  * touching the mono, and only if you close it: what was added lives in
  * memory until then.</p>
  *
+ * <p>The predicate of {@link #select(Predicate)} may be tested in parallel,
+ * in a {@link ForkJoinPool}, when there are at least the given number of
+ * rows: then it must be thread-safe. The tojos found are in the order the
+ * rows arrived anyway.</p>
+ *
  * <p>The class is NOT thread-safe.</p>
  *
  * @since 1.0
@@ -49,14 +54,40 @@ public final class TjDeferred implements Tojos {
      */
     private final AtomicBoolean first;
 
+    /**
+     * How rows are tested by the predicate of select.
+     */
+    private final Sieve sieve;
+
     /**
      * Ctor.
      * @param mno The mono to read the rows from and write them back to
      */
     public TjDeferred(final Mono mno) {
+        this(mno, new Sieve());
+    }
+
+    /**
+     * Ctor.
+     * @param mno The mono to read the rows from and write them back to
+     * @param pool The pool to test rows in, in parallel
+     * @param threshold How many rows there must be to test them in parallel
+     * @since 1.0
+     */
+    public TjDeferred(final Mono mno, final ForkJoinPool pool, final int threshold) {
+        this(mno, new Sieve(pool, threshold));
+    }
+
+    /**
+     * Ctor.
+     * @param mno The mono to read the rows from and write them back to
+     * @param svs How rows are tested
+     */
+    private TjDeferred(final Mono mno, final Sieve svs) {
         this.mono = mno;
         this.rows = new LinkedHashMap<>(0);
         this.first = new AtomicBoolean(true);
+        this.sieve = svs;
     }
 
     @Override
@@ -76,12 +107,10 @@ public final class TjDeferred implements Tojos {
 
     @Override
     public List<Tojo> select(final Predicate<Tojo> filter) {
-        return this.load()
-            .values()
-            .stream()
-            .map(ToRow::new)
-            .filter(filter)
-            .collect(Collectors.toList());
+        return this.sieve.passed(
+            this.load().values().stream().map(ToRow::new),
+            filter
+        );
     }
 
     @Override
@@ -37,12 +37,16 @@ public final class TjSmart implements Tojos {
 
     /**
      * Get one tojo by ID.
+     *
+     * <p>The origin may find it by its id, without looking at every
+     * tojo it has, see {@link TjDefault}.</p>
+     *
      * @param name The id
      * @return The tojo if found
      */
     public Tojo getById(final String name) {
         return this.origin
-            .select(tojo -> name.equals(tojo.get(Tojos.ID_KEY)))
+            .select(new ById(name))
             .iterator()
             .next();
     }
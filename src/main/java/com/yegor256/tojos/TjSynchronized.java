@@ -7,13 +7,28 @@ package com.yegor256.tojos;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Thread-safe version of {@link Tojos}.
  *
+ * <p>Adding and selecting tojos is exclusive: nothing else happens while
+ * it goes on. Reading and writing attributes of a tojo is exclusive only
+ * among tojos that share the same stripe, which is chosen by their ids.
+ * With one stripe, which is the default, all of them wait for each other.
+ * With more stripes, threads working on different tojos don't wait for each
+ * other, which is safe only if the origin lets two tojos be touched at the
+ * same time, as {@link TjDeferred} and {@link TjCached} do. Stripes don't
+ * help with {@link TjDefault}: all its tojos take one lock of their own
+ * anyway, so they wait for each other, whatever the stripes are.</p>
+ *
  * <p>The class is thread-safe.</p>
  *
  * @since 0.3.0
@@ -26,17 +41,34 @@ public final class TjSynchronized implements Tojos {
     private final Tojos origin;
 
     /**
-     * Lock for synchronization.
+     * Lock for synchronization, exclusive for add and select.
+     */
+    private final ReentrantReadWriteLock lock;
+
+    /**
+     * Locks for tojos, by their ids.
      */
-    private final ReentrantLock lock;
+    private final Lock[] stripes;
 
     /**
      * Ctor.
      * @param tojos The tojos
      */
     public TjSynchronized(final Tojos tojos) {
+        this(tojos, 1);
+    }
+
+    /**
+     * Ctor.
+     * @param tojos The tojos
+     * @param total How many locks to spread tojos over, by their ids
+     * @since 1.0
+     */
+    public TjSynchronized(final Tojos tojos, final int total) {
         this.origin = tojos;
-        this.lock = new ReentrantLock();
+        this.lock = new ReentrantReadWriteLock();
+        // @checkstyle ConstructorsCodeFreeCheck (1 line)
+        this.stripes = TjSynchronized.stripes(total);
     }
 
     @Override
@@ -46,24 +78,24 @@ public final class TjSynchronized implements Tojos {
 
     @Override
     public Tojo add(final String name) {
-        this.lock.lock();
+        this.lock.writeLock().lock();
         try {
-            return new TjSynchronized.Synched(this.origin.add(name));
+            return new TjSynchronized.Synched(this.origin.add(name), name);
         } finally {
-            this.lock.unlock();
+            this.lock.writeLock().unlock();
         }
     }
 
     @Override
     public List<Tojo> select(final Predicate<Tojo> filter) {
-        this.lock.lock();
+        this.lock.writeLock().lock();
         try {
             return this.origin.select(filter)
                 .stream()
-                .map(TjSynchronized.Synched::new)
+                .map(tojo -> new TjSynchronized.Synched(tojo, tojo.get(Tojos.ID_KEY)))
                 .collect(Collectors.toList());
         } finally {
-            this.lock.unlock();
+            this.lock.writeLock().unlock();
         }
     }
 
@@ -72,6 +104,17 @@ public final class TjSynchronized implements Tojos {
         this.origin.close();
     }
 
+    private static Lock[] stripes(final int total) {
+        if (total < 1) {
+            throw new IllegalArgumentException(
+                String.format("There must be at least one stripe, while %d given", total)
+            );
+        }
+        return IntStream.range(0, total)
+            .mapToObj(idx -> new ReentrantLock())
+            .toArray(Lock[]::new);
+    }
+
     /**
      * Synchronized tojo.
      * @since 0.19.0
@@ -83,61 +126,60 @@ public final class TjSynchronized implements Tojos {
          */
         private final Tojo origin;
 
+        /**
+         * The lock of its stripe.
+         */
+        private final Lock stripe;
+
         /**
          * Ctor.
          * @param tojo The tojo
+         * @param name Its id
          */
-        Synched(final Tojo tojo) {
+        Synched(final Tojo tojo, final String name) {
             this.origin = tojo;
+            // @checkstyle ConstructorsCodeFreeCheck (1 line)
+            this.stripe = TjSynchronized.this.stripes[
+                Math.floorMod(
+                    Objects.hashCode(name),
+                    TjSynchronized.this.stripes.length
+                )
+            ];
         }
 
         @Override
         public String toString() {
-            TjSynchronized.this.lock.lock();
-            try {
-                return this.origin.toString();
-            } finally {
-                TjSynchronized.this.lock.unlock();
-            }
+            return this.locked(this.origin::toString);
         }
 
         @Override
         public boolean exists(final String key) {
-            TjSynchronized.this.lock.lock();
-            try {
-                return this.origin.exists(key);
-            } finally {
-                TjSynchronized.this.lock.unlock();
-            }
+            return this.locked(() -> this.origin.exists(key));
         }
 
         @Override
         public String get(final String key) {
-            TjSynchronized.this.lock.lock();
-            try {
-                return this.origin.get(key);
-            } finally {
-                TjSynchronized.this.lock.unlock();
-            }
+            return this.locked(() -> this.origin.get(key));
         }
 
         @Override
         public Tojo set(final String key, final Object value) {
-            TjSynchronized.this.lock.lock();
-            try {
-                return this.origin.set(key, value);
-            } finally {
-                TjSynchronized.this.lock.unlock();
-            }
+            return this.locked(() -> this.origin.set(key, value));
         }
 
         @Override
         public Map<String, String> toMap() {
-            TjSynchronized.this.lock.lock();
+            return this.locked(this.origin::toMap);
+        }
+
+        private <T> T locked(final Supplier<T> action) {
+            TjSynchronized.this.lock.readLock().lock();
+            this.stripe.lock();
             try {
-                return this.origin.toMap();
+                return action.get();
             } finally {
-                TjSynchronized.this.lock.unlock();
+                this.stripe.unlock();
+                TjSynchronized.this.lock.readLock().unlock();
             }
         }
     }
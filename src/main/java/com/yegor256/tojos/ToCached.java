@@ -19,6 +19,11 @@ import java.util.Map;
  */
 public final class ToCached implements Tojo {
 
+    /**
+     * Index of no attributes.
+     */
+    private static final Attributes NONE = new Attributes();
+
     /**
      * The original tojo.
      */
@@ -29,14 +34,31 @@ public final class ToCached implements Tojo {
      */
     private final Map<String, String> cache;
 
+    /**
+     * Index of attributes, to tell about changes.
+     */
+    private final Attributes index;
+
     /**
      * Constructor.
      * @param tojo The original tojo
      * @param cache Cache container
      */
     ToCached(final Tojo tojo, final Map<String, String> cache) {
+        this(tojo, cache, ToCached.NONE);
+    }
+
+    /**
+     * Constructor.
+     * @param tojo The original tojo
+     * @param cache Cache container
+     * @param attrs Index of attributes, to tell about changes
+     * @since 1.0
+     */
+    ToCached(final Tojo tojo, final Map<String, String> cache, final Attributes attrs) {
         this.origin = tojo;
         this.cache = cache;
+        this.index = attrs;
     }
 
     @Override
@@ -57,7 +79,7 @@ public final class ToCached implements Tojo {
     @Override
     public Tojo set(final String key, final Object value) {
         this.origin.set(key, value);
-        this.cache.put(key, String.valueOf(value));
+        this.index.put(this.cache, key, String.valueOf(value));
         return this;
     }
 
@@ -6,6 +6,7 @@ package com.yegor256.tojos;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
@@ -13,6 +14,10 @@ import java.util.function.Supplier;
 /**
  * One tojo in a {@link Mono}.
  *
+ * <p>The rows are taken from a {@link Snapshot}, shared with other tojos
+ * of the same mono: they are read again only when the version of the mono
+ * changes, not every time an attribute is asked for.</p>
+ *
  * <p>The class is thread-safe.</p>
  *
  * @since 0.3.0
@@ -20,9 +25,9 @@ import java.util.function.Supplier;
 final class ToMono implements Tojo {
 
     /**
-     * The file.
+     * The rows of the mono.
      */
-    private final Mono mono;
+    private final Snapshot snapshot;
 
     /**
      * The name.
@@ -34,16 +39,24 @@ final class ToMono implements Tojo {
      */
     private final ReentrantLock lock;
 
+    /**
+     * Shared index of rows.
+     */
+    private final Index index;
+
     /**
      * Ctor.
-     * @param mno The CSV
+     * @param snap Shared rows of the mono
      * @param nme The name
      * @param lck Shared lock
+     * @param idx Shared index of rows
      */
-    ToMono(final Mono mno, final String nme, final ReentrantLock lck) {
-        this.mono = mno;
+    ToMono(final Snapshot snap, final String nme, final ReentrantLock lck,
+        final Index idx) {
+        this.snapshot = snap;
         this.name = nme;
         this.lock = lck;
+        this.index = idx;
     }
 
     @Override
@@ -55,7 +68,7 @@ final class ToMono implements Tojo {
     public boolean exists(final String key) {
         this.lock.lock();
         try {
-            return this.readMap(this.mono.read()).containsKey(key);
+            return this.readMap(this.snapshot.rows()).containsKey(key);
         } finally {
             this.lock.unlock();
         }
@@ -65,7 +78,7 @@ final class ToMono implements Tojo {
     public String get(final String key) {
         this.lock.lock();
         try {
-            final Map<String, String> map = this.readMap(this.mono.read());
+            final Map<String, String> map = this.readMap(this.snapshot.rows());
             final String value = map.get(key);
             if (value == null) {
                 throw new IllegalStateException(
@@ -93,10 +106,10 @@ final class ToMono implements Tojo {
                     )
                 );
             }
-            final Collection<Map<String, String>> rows = this.mono.read();
+            final Collection<Map<String, String>> rows = this.snapshot.rows();
             final Map<String, String> row = this.readMap(rows);
             row.put(key, value.toString());
-            this.mono.write(rows);
+            this.snapshot.write(rows, Collections.singleton(row));
             return this;
         } finally {
             this.lock.unlock();
@@ -105,14 +118,18 @@ final class ToMono implements Tojo {
 
     @Override
     public Map<String, String> toMap() {
-        return Collections.unmodifiableMap(this.readMap(this.mono.read()));
+        this.lock.lock();
+        try {
+            return Collections.unmodifiableMap(
+                new HashMap<>(this.readMap(this.snapshot.rows()))
+            );
+        } finally {
+            this.lock.unlock();
+        }
     }
 
     private Map<String, String> readMap(final Collection<Map<String, String>> rows) {
-        return rows
-            .stream()
-            .filter(row -> row.get(Tojos.ID_KEY).equals(this.name))
-            .findFirst()
+        return this.index.find(rows, this.name)
             .orElseThrow(this.missing(rows.size()));
     }
 
@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * One row, as a tojo that can only be read.
+ *
+ * <p>This is what the predicate of {@link TjDefault#select(Predicate)} is
+ * given: it doesn't copy the row and doesn't know the mono, so testing a row
+ * costs nothing but this small object. Only the rows that pass become tojos
+ * that can be changed.</p>
+ *
+ * <p>This class is NOT thread-safe.</p>
+ *
+ * @since 1.0
+ */
+final class ToView implements Tojo {
+
+    /**
+     * The cells of the row, by name.
+     */
+    private final Map<String, String> cells;
+
+    /**
+     * Ctor.
+     * @param row The cells of the row, by name
+     */
+    ToView(final Map<String, String> row) {
+        this.cells = row;
+    }
+
+    @Override
+    public String toString() {
+        return this.cells.get(Tojos.ID_KEY);
+    }
+
+    @Override
+    public boolean exists(final String key) {
+        return this.cells.containsKey(key);
+    }
+
+    @Override
+    public String get(final String key) {
+        return this.cells.get(key);
+    }
+
+    @Override
+    public Tojo set(final String key, final Object value) {
+        throw new IllegalStateException(
+            String.format(
+                "The tojo id=%s can't be changed while it is being selected, set '%s' later",
+                this, key
+            )
+        );
+    }
+
+    @Override
+    public Map<String, String> toMap() {
+        return Collections.unmodifiableMap(this.cells);
+    }
+}
@@ -39,6 +39,12 @@ public interface Tojos extends Closeable {
 
     /**
      * Select some tojos.
+     *
+     * <p>The filter must not change the tojos it is given: it may be given
+     * tojos that can only be read, and then {@link Tojo#set(String, Object)}
+     * throws {@link IllegalStateException}, as in {@link TjDefault}. Change
+     * the tojos returned instead.</p>
+     *
      * @param filter The filter
      * @return Collection of them
      */
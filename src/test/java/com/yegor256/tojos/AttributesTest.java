@@ -0,0 +1,74 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Attributes}.
+ * @since 1.0
+ */
+final class AttributesTest {
+
+    @Test
+    void findsIdsByValue() {
+        final Attributes attrs = new Attributes("status");
+        attrs.added(AttributesTest.row("a", "new"));
+        attrs.added(AttributesTest.row("b", "done"));
+        attrs.added(AttributesTest.row("c", "new"));
+        MatcherAssert.assertThat(
+            "must find ids of tojos with the value",
+            attrs.matching(new FtEquals("status", "new")),
+            Matchers.contains("a", "c")
+        );
+    }
+
+    @Test
+    void forgetsOldValue() {
+        final Attributes attrs = new Attributes("status");
+        final Map<String, String> row = AttributesTest.row("a", "new");
+        attrs.added(row);
+        attrs.put(row, "status", "done");
+        MatcherAssert.assertThat(
+            "must not find the tojo by its old value",
+            attrs.matching(new FtEquals("status", "new")),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void forgetsOldValueWhenAddedAgain() {
+        final Attributes attrs = new Attributes("status");
+        attrs.added(AttributesTest.row("a", "new"));
+        attrs.added(AttributesTest.row("a", "done"));
+        MatcherAssert.assertThat(
+            "must not find the tojo added again by its old value",
+            attrs.matching(new FtEquals("status", "new")),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void ignoresOtherKeys() {
+        final Attributes attrs = new Attributes("status");
+        attrs.added(AttributesTest.row("a", "new"));
+        MatcherAssert.assertThat(
+            "must not cover keys that were not given",
+            attrs.covers(Tojos.ID_KEY),
+            Matchers.is(false)
+        );
+    }
+
+    private static Map<String, String> row(final String id, final String status) {
+        final Map<String, String> row = new HashMap<>(2);
+        row.put(Tojos.ID_KEY, id);
+        row.put("status", status);
+        return row;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.lang.syntax.ArchRuleDefinition;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Filter}.
+ * @since 1.0
+ */
+@SuppressWarnings("JTCOP.RuleAssertionMessage")
+final class FilterTest {
+
+    @Test
+    void ensuresEveryFilterHaveProperPrefix() {
+        ArchRuleDefinition.classes()
+            .that().haveSimpleNameStartingWith("Ft")
+            .should().implement(Filter.class)
+            .check(FilterTest.classes());
+    }
+
+    private static JavaClasses classes() {
+        return new ClassFileImporter()
+            .withImportOption(new ImportOption.DoNotIncludeTests())
+            .importPackages("com.yegor256.tojos");
+    }
+}
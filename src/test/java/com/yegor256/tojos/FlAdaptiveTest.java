@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link FlAdaptive}.
+ * @since 1.0
+ */
+final class FlAdaptiveTest {
+
+    @Test
+    void waitsMaxDelayAfterSmallWrite() {
+        MatcherAssert.assertThat(
+            "must wait the max delay after one small write",
+            new FlAdaptive(10, 1000L, 500L).written(FlAdaptiveTest.row("x")),
+            Matchers.equalTo(500L)
+        );
+    }
+
+    @Test
+    void flushesRightAwayAfterManyWrites() {
+        final Flush flush = new FlAdaptive(3, 1000L, 500L);
+        flush.written(FlAdaptiveTest.row("a"));
+        flush.written(FlAdaptiveTest.row("b"));
+        MatcherAssert.assertThat(
+            "must not wait after the third write",
+            flush.written(FlAdaptiveTest.row("c")),
+            Matchers.equalTo(0L)
+        );
+    }
+
+    @Test
+    void flushesRightAwayAfterBigWrite() {
+        MatcherAssert.assertThat(
+            "must not wait after a write bigger than the limit",
+            new FlAdaptive(10, 100L, 500L).written(
+                FlAdaptiveTest.row("z".repeat(200))
+            ),
+            Matchers.equalTo(0L)
+        );
+    }
+
+    @Test
+    void startsCountingAgainAfterFlush() {
+        final Flush flush = new FlAdaptive(2, 1000L, 500L);
+        flush.written(FlAdaptiveTest.row("a"));
+        flush.flushed(0L);
+        MatcherAssert.assertThat(
+            "must forget the writes made before the flush",
+            flush.written(FlAdaptiveTest.row("b")),
+            Matchers.equalTo(500L)
+        );
+    }
+
+    @Test
+    void backsOffAfterSlowFlush() {
+        final Flush flush = new FlAdaptive(1, 1000L, 500L);
+        flush.flushed(10_000L);
+        MatcherAssert.assertThat(
+            "must wait longer than the max delay after a slow flush",
+            flush.written(FlAdaptiveTest.row("a")),
+            Matchers.greaterThan(30_000L)
+        );
+    }
+
+    private static Collection<Map<String, String>> row(final String id) {
+        return Collections.singleton(Collections.singletonMap(Tojos.ID_KEY, id));
+    }
+}
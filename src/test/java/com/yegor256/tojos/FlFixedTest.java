@@ -0,0 +1,29 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link FlFixed}.
+ * @since 1.0
+ */
+final class FlFixedTest {
+
+    @Test
+    void waitsTheSameTimeAlways() {
+        final Flush flush = new FlFixed(42L);
+        flush.written(Collections.emptyList());
+        flush.flushed(10_000L);
+        MatcherAssert.assertThat(
+            "must wait the given time, no matter what",
+            flush.written(Collections.singleton(Collections.singletonMap("a", "b"))),
+            Matchers.equalTo(42L)
+        );
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A flush policy that asks for the given delays, one after another.
+ *
+ * <p>The last delay is repeated, when there are no more. It also remembers
+ * how many rows the last write changed.</p>
+ *
+ * @since 1.0
+ */
+final class FlScripted implements Flush {
+
+    /**
+     * The delays, in milliseconds.
+     */
+    private final long[] delays;
+
+    /**
+     * How many writes were made.
+     */
+    private final AtomicInteger count;
+
+    /**
+     * How many rows the last write changed.
+     */
+    private final AtomicInteger last;
+
+    /**
+     * Ctor.
+     * @param msec The delays, in milliseconds
+     */
+    FlScripted(final long... msec) {
+        this.delays = msec.clone();
+        this.count = new AtomicInteger();
+        this.last = new AtomicInteger();
+    }
+
+    @Override
+    public long written(final Collection<Map<String, String>> changed) {
+        this.last.set(changed.size());
+        return this.delays[
+            Math.min(this.count.getAndIncrement(), this.delays.length - 1)
+        ];
+    }
+
+    @Override
+    public void flushed(final long msec) {
+        // nothing to remember here
+    }
+
+    /**
+     * How many rows the last write changed.
+     * @return Number of rows
+     */
+    int changed() {
+        return this.last.get();
+    }
+}
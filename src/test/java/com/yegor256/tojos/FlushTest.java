@@ -0,0 +1,34 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.lang.syntax.ArchRuleDefinition;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Flush}.
+ * @since 1.0
+ */
+@SuppressWarnings("JTCOP.RuleAssertionMessage")
+final class FlushTest {
+
+    @Test
+    void ensuresEveryFlushHaveProperPrefix() {
+        ArchRuleDefinition.classes()
+            .that().haveSimpleNameStartingWith("Fl")
+            .and().doNotHaveSimpleName("Flush")
+            .should().implement(Flush.class)
+            .check(FlushTest.classes());
+    }
+
+    private static JavaClasses classes() {
+        return new ClassFileImporter()
+            .withImportOption(new ImportOption.DoNotIncludeTests())
+            .importPackages("com.yegor256.tojos");
+    }
+}
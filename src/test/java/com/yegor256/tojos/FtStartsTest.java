@@ -0,0 +1,32 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link FtStarts}.
+ * @since 1.0
+ */
+final class FtStartsTest {
+
+    @Test
+    void selectsTojosWithPrefix() {
+        final Tojos tojos = new TjDefault(new MnMemory());
+        tojos.add("a").set("status", "new");
+        tojos.add("b").set("status", "done");
+        tojos.add("c");
+        MatcherAssert.assertThat(
+            "must select only tojos with the prefix",
+            tojos.select(new FtStarts("status", "do")).stream()
+                .map(tojo -> tojo.get(Tojos.ID_KEY))
+                .collect(Collectors.toList()),
+            Matchers.contains("b")
+        );
+    }
+}
@@ -62,6 +62,25 @@ public final class Fuzzing {
         }
     }
 
+    /**
+     * Fuzz {@link MnBinary} by writing and reading back random rows.
+     * @param before Rows to write and verify
+     * @throws IOException If an I/O error occurs
+     */
+    @Fuzz
+    public void fuzzMnBinary(final Collection<Map<String, String>> before) throws IOException {
+        Fuzzing.assumeValid(before);
+        final Mono bin = new MnBinary(this.tempPath());
+        bin.write(before);
+        for (final Map<String, String> row : before) {
+            MatcherAssert.assertThat(
+                "must contain the same rows",
+                bin.read(),
+                Matchers.hasItem(row)
+            );
+        }
+    }
+
     private Path tempPath() throws IOException {
         return File.createTempFile(this.getClass().getCanonicalName(), "").toPath();
     }
@@ -0,0 +1,117 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Index}.
+ * @since 1.0
+ */
+final class IndexTest {
+
+    @Test
+    void findsRowById() {
+        MatcherAssert.assertThat(
+            "must find the row by its id",
+            new Index().find(IndexTest.rows("a", "b", "c"), "b").get().get("k"),
+            Matchers.equalTo("b-value")
+        );
+    }
+
+    @Test
+    void findsRowThatMoved() {
+        final Index index = new Index();
+        final List<Map<String, String>> rows = IndexTest.rows("a", "b", "c");
+        index.find(rows, "c");
+        rows.remove(0);
+        MatcherAssert.assertThat(
+            "must find the row after the rows before it were removed",
+            index.find(rows, "c").get().get("k"),
+            Matchers.equalTo("c-value")
+        );
+    }
+
+    @Test
+    void findsRowJustAdded() {
+        final Index index = new Index();
+        final List<Map<String, String>> rows = IndexTest.rows("x");
+        index.find(rows, "x");
+        rows.add(IndexTest.row("y"));
+        index.added(rows, "y");
+        MatcherAssert.assertThat(
+            "must find the row that was added to the end",
+            index.find(rows, "y").get().get("k"),
+            Matchers.equalTo("y-value")
+        );
+    }
+
+    @Test
+    void findsNothingWhenAbsent() {
+        MatcherAssert.assertThat(
+            "must not find the row that isn't there",
+            new Index().find(IndexTest.rows("a"), "b").isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void skipsRowsWithoutId() {
+        final Collection<Map<String, String>> rows = IndexTest.rows("a");
+        rows.add(Collections.emptyMap());
+        MatcherAssert.assertThat(
+            "must skip rows without id",
+            new Index().find(rows, "a").isPresent(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void findsRowAddedBySomeoneElse() {
+        final Index index = new Index();
+        final List<Map<String, String>> rows = IndexTest.rows("a");
+        index.find(rows, "a");
+        rows.add(IndexTest.row("b"));
+        MatcherAssert.assertThat(
+            "must take the positions again when there are more rows",
+            index.find(rows, "b").isPresent(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void findsRowWhoseIdChangedWhileNumberOfRowsStayed() {
+        final Index index = new Index();
+        index.find(IndexTest.rows("a", "b"), "a");
+        MatcherAssert.assertThat(
+            "must take the positions again when the rows are read again",
+            index.find(IndexTest.rows("a", "q"), "q").isPresent(),
+            Matchers.is(true)
+        );
+    }
+
+    private static List<Map<String, String>> rows(final String... ids) {
+        final List<Map<String, String>> rows = new ArrayList<>(ids.length);
+        for (final String id : ids) {
+            rows.add(IndexTest.row(id));
+        }
+        return rows;
+    }
+
+    private static Map<String, String> row(final String id) {
+        final Map<String, String> row = new HashMap<>(2);
+        row.put(Tojos.ID_KEY, id);
+        row.put("k", String.format("%s-value", id));
+        return row;
+    }
+}
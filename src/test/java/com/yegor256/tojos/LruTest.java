@@ -0,0 +1,32 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Lru}.
+ * @since 1.0
+ */
+final class LruTest {
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        final Map<String, Tojo> lru = new Lru(2);
+        final Tojos tojos = new TjDefault(new MnMemory());
+        lru.put("a", tojos.add("a"));
+        lru.put("b", tojos.add("b"));
+        lru.get("a");
+        lru.put("c", tojos.add("c"));
+        MatcherAssert.assertThat(
+            "must keep only the tojos used recently",
+            lru.keySet(),
+            Matchers.contains("a", "c")
+        );
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link MnBinary}.
+ * @since 1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class MnBinaryTest {
+
+    @Test
+    void readsEmptyFile(@Mktmp final Path temp) {
+        MatcherAssert.assertThat(
+            "must read nothing when there is no file",
+            new MnBinary(temp.resolve("absent.bin")).read(),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void writesAndReadsRows(@Mktmp final Path temp) {
+        final Mono bin = new MnBinary(temp.resolve("foo/bar/a.bin"));
+        final Collection<Map<String, String>> rows = new ArrayList<>(0);
+        final Map<String, String> first = new HashMap<>(0);
+        first.put(Tojos.ID_KEY, "привет, друг!");
+        first.put("status", "done");
+        rows.add(first);
+        rows.add(new HashMap<>(0));
+        final Map<String, String> third = new HashMap<>(0);
+        third.put(Tojos.ID_KEY, "");
+        third.put("status", "done");
+        third.put("size", "\t\n\r");
+        rows.add(third);
+        bin.write(rows);
+        MatcherAssert.assertThat(
+            "must read the same rows as were written",
+            bin.read(),
+            Matchers.equalTo(rows)
+        );
+    }
+
+    @Test
+    void convertsFromJson(@Mktmp final Path temp) {
+        final Mono json = new MnJson(temp.resolve("x.json"));
+        new TjDefault(json).add("first").set("k", "v");
+        final Mono bin = new MnBinary(temp.resolve("x.bin"));
+        bin.write(json.read());
+        MatcherAssert.assertThat(
+            "must keep the rows read from JSON",
+            bin.read(),
+            Matchers.equalTo(json.read())
+        );
+    }
+
+    @Test
+    void rejectsFileOfOtherFormat(@Mktmp final Path temp) throws IOException {
+        final Path path = temp.resolve("wrong.bin");
+        Files.write(path, "id:x".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new MnBinary(path).read(),
+            "must reject a file that is not binary"
+        );
+    }
+
+    @Test
+    void rejectsFileCutShort(@Mktmp final Path temp) throws IOException {
+        final Path path = temp.resolve("short.bin");
+        new TjDefault(new MnBinary(path)).add("x").set("a", "1");
+        Files.write(
+            path,
+            Arrays.copyOf(Files.readAllBytes(path), (int) Files.size(path) - 1)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new MnBinary(path).read(),
+            "must reject a file that is shorter than its header says"
+        );
+    }
+
+    @Test
+    void readsOnlyGivenColumns(@Mktmp final Path temp) {
+        final Mono mono = new MnBinary(temp.resolve("projected.bin"));
+        new TjDefault(mono).add("x").set("a", "1").set("b", "2");
+        MatcherAssert.assertThat(
+            "must read only the given columns",
+            mono.read(Collections.singleton("b")),
+            Matchers.contains(Collections.singletonMap("b", "2"))
+        );
+    }
+}
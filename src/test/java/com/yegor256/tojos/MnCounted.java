@@ -7,7 +7,9 @@ package com.yegor256.tojos;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 /**
  * A mono that remembers how many times it was read and written.
@@ -52,12 +54,30 @@ final class MnCounted implements Mono {
         return this.origin.read();
     }
 
+    @Override
+    public Stream<Map<String, String>> stream() {
+        this.reading.incrementAndGet();
+        return this.origin.stream();
+    }
+
+    @Override
+    public Optional<String> version() {
+        return this.origin.version();
+    }
+
     @Override
     public void write(final Collection<Map<String, String>> rows) {
         this.writing.incrementAndGet();
         this.origin.write(rows);
     }
 
+    @Override
+    public void write(final Collection<Map<String, String>> rows,
+        final Collection<Map<String, String>> changed) {
+        this.writing.incrementAndGet();
+        this.origin.write(rows, changed);
+    }
+
     @Override
     public void close() throws IOException {
         this.closing.incrementAndGet();
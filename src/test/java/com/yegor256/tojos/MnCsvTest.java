@@ -12,10 +12,13 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.RepeatedTest;
@@ -147,4 +150,101 @@ final class MnCsvTest {
             )
         );
     }
+
+    @Test
+    void streamsRows(@Mktmp final Path temp) {
+        final Mono mono = new MnCsv(temp.resolve("streamed.csv"));
+        final Collection<Map<String, String>> rows = new ArrayList<>(0);
+        for (int idx = 0; idx < 3; ++idx) {
+            final Map<String, String> row = new HashMap<>(0);
+            row.put(Tojos.ID_KEY, String.format("s-%d", idx));
+            row.put("v", Integer.toString(idx));
+            rows.add(row);
+        }
+        mono.write(rows);
+        try (Stream<Map<String, String>> stream = mono.stream()) {
+            MatcherAssert.assertThat(
+                "must stream rows in the order they were written",
+                stream.map(row -> row.get("v")).collect(Collectors.toList()),
+                Matchers.contains("0", "1", "2")
+            );
+        }
+    }
+
+    @Test
+    void readsOnlyGivenColumns(@Mktmp final Path temp) {
+        final Mono mono = new MnCsv(temp.resolve("projected.csv"));
+        new TjDefault(mono).add("x").set("a", "1").set("b", "2");
+        MatcherAssert.assertThat(
+            "must read only the given columns",
+            mono.read(Collections.singleton("b")),
+            Matchers.contains(Collections.singletonMap("b", "2"))
+        );
+    }
+
+    @Test
+    void streamsOnlyRowsThatPass(@Mktmp final Path temp) {
+        final Mono csv = new MnCsv(temp.resolve("filtered.csv"));
+        final Tojos tojos = new TjDefault(csv);
+        tojos.add("a").set("k", "x");
+        tojos.add("b").set("k", "y");
+        tojos.add("c");
+        try (Stream<Map<String, String>> stream = csv.stream(
+            Collections.singleton("k"), "k", "y"::equals
+        )) {
+            MatcherAssert.assertThat(
+                "must stream only the given columns of rows that pass",
+                stream.collect(Collectors.toList()),
+                Matchers.contains(Collections.singletonMap("k", "y"))
+            );
+        }
+    }
+
+    @Test
+    void writesWideRowsWithCellsInTheirColumns(@Mktmp final Path temp) {
+        final Mono csv = new MnCsv(temp.resolve("wide.csv"));
+        final Collection<Map<String, String>> rows = new ArrayList<>(0);
+        for (int row = 0; row < 20; ++row) {
+            final Map<String, String> map = new HashMap<>(0);
+            map.put(Tojos.ID_KEY, String.format("r%d", row));
+            for (int col = 0; col < 80; col += row % 3 + 1) {
+                map.put(String.format("c%02d", col), String.format("%d:%d", row, col));
+            }
+            rows.add(map);
+        }
+        csv.write(rows);
+        MatcherAssert.assertThat(
+            "must read every cell back from its own column",
+            csv.read(),
+            Matchers.equalTo(rows)
+        );
+    }
+
+    @Test
+    void readsWithBuiltInParserWhatOpenCsvWrote(@Mktmp final Path temp) {
+        final Path path = temp.resolve("both.csv");
+        final Map<String, String> row = new HashMap<>(0);
+        row.put(Tojos.ID_KEY, "a,b");
+        row.put("text", "say \"hi\"\nand go");
+        row.put("path", "c:\\temp");
+        new MnCsv(path).write(Collections.singletonList(row));
+        MatcherAssert.assertThat(
+            "must read the same rows with the parser that is built in",
+            new MnCsv(path, new SvDirect(), true).read(),
+            Matchers.contains(row)
+        );
+    }
+
+    @Test
+    void readsWhatItWroteWithBuiltInParser(@Mktmp final Path temp) {
+        final Mono csv = new MnCsv(temp.resolve("built-in.csv"), new SvDirect(), false);
+        final Tojos tojos = new TjDefault(csv);
+        tojos.add("x").set("k", "\"v\", w");
+        tojos.add("y");
+        MatcherAssert.assertThat(
+            "must read back the rows written without OpenCSV",
+            new TjSmart(tojos).getById("x").get("k"),
+            Matchers.equalTo("\"v\", w")
+        );
+    }
 }
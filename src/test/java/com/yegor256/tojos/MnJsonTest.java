@@ -16,6 +16,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.xml.parsers.DocumentBuilderFactory;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
@@ -153,6 +155,37 @@ final class MnJsonTest {
         );
     }
 
+    @Test
+    void streamsRows(@Mktmp final Path temp) {
+        final Mono mono = new MnJson(temp.resolve("streamed.json"));
+        final Collection<Map<String, String>> rows = new ArrayList<>(0);
+        for (int idx = 0; idx < 3; ++idx) {
+            final Map<String, String> row = new HashMap<>(0);
+            row.put(Tojos.ID_KEY, String.format("s-%d", idx));
+            row.put("v", Integer.toString(idx));
+            rows.add(row);
+        }
+        mono.write(rows);
+        try (Stream<Map<String, String>> stream = mono.stream()) {
+            MatcherAssert.assertThat(
+                "must stream rows in the order they were written",
+                stream.map(row -> row.get("v")).collect(Collectors.toList()),
+                Matchers.contains("0", "1", "2")
+            );
+        }
+    }
+
+    @Test
+    void readsOnlyGivenColumns(@Mktmp final Path temp) {
+        final Mono mono = new MnJson(temp.resolve("projected.json"));
+        new TjDefault(mono).add("x").set("a", "1").set("b", "2");
+        MatcherAssert.assertThat(
+            "must read only the given columns",
+            mono.read(Collections.singleton("b")),
+            Matchers.contains(Collections.singletonMap("b", "2"))
+        );
+    }
+
     private static boolean optionalIn(final String group, final String artifact)
         throws Exception {
         final Document doc = DocumentBuilderFactory
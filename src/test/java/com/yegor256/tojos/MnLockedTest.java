@@ -0,0 +1,113 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import com.yegor256.Together;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link MnLocked}.
+ * @since 1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class MnLockedTest {
+
+    @Test
+    void readsWhatWasWritten(@Mktmp final Path temp) {
+        final Mono mono = new MnLocked(
+            new MnCsv(temp.resolve("locked.csv")), temp.resolve("locked.lock")
+        );
+        new TjDefault(mono).add("x").set("a", "b");
+        MatcherAssert.assertThat(
+            "must read the rows written through it",
+            new TjDefault(mono).select(t -> true).get(0).get("a"),
+            Matchers.equalTo("b")
+        );
+    }
+
+    @Test
+    void keepsCellsSetByAnotherInstance(@Mktmp final Path temp) {
+        final Path csv = temp.resolve("shared.csv");
+        final Path lock = temp.resolve("shared.lock");
+        final Tojo first = new TjDefault(new MnSticky(new MnLocked(new MnCsv(csv), lock)))
+            .add("x");
+        final Tojo second = new TjDefault(new MnSticky(new MnLocked(new MnCsv(csv), lock)))
+            .add("x");
+        first.set("a", "1");
+        second.set("b", "2");
+        MatcherAssert.assertThat(
+            "must not lose the cell set by the other one, which was not seen",
+            new TjDefault(new MnCsv(csv)).select(t -> true).get(0).toMap(),
+            Matchers.allOf(Matchers.hasEntry("a", "1"), Matchers.hasEntry("b", "2"))
+        );
+    }
+
+    @Test
+    void showsCellsSetByRivalBetweenReadAndWrite(@Mktmp final Path temp) {
+        final Path csv = temp.resolve("raced.csv");
+        final Tojo mine = new TjDefault(
+            new MnLocked(
+                new MnRaced(
+                    new MnCsv(csv),
+                    () -> new TjDefault(new MnCsv(csv)).add("a").set("w", "4")
+                ),
+                temp.resolve("raced.lock")
+            )
+        ).add("a");
+        MatcherAssert.assertThat(
+            "must show the cell the rival set, not only write it to the file",
+            mine.get("w"),
+            Matchers.equalTo("4")
+        );
+    }
+
+    @Test
+    void createsLockFile(@Mktmp final Path temp) {
+        final Path lock = temp.resolve("sub/dir/tojos.lock");
+        new MnLocked(new MnMemory(), lock).read();
+        MatcherAssert.assertThat(
+            "must create the lock file, with its directory",
+            Files.exists(lock),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void reportsEveryWait(@Mktmp final Path temp) {
+        final AtomicInteger reports = new AtomicInteger();
+        final Mono mono = new MnLocked(
+            new MnMemory(), temp.resolve("reported.lock"), msec -> reports.incrementAndGet()
+        );
+        mono.write(mono.read());
+        MatcherAssert.assertThat(
+            "must report the wait of every read and write",
+            reports.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void letsThreadsReadAndWriteAtOnce(@Mktmp final Path temp) {
+        final Tojos tojos = new TjDefault(
+            new MnLocked(new MnMemory(), temp.resolve("threads.lock"))
+        );
+        final int threads = 8;
+        MatcherAssert.assertThat(
+            "must not fail when threads of one process lock the file",
+            new Together<>(
+                threads, thread -> tojos.add(String.format("t%d", thread)).toString()
+            ),
+            Matchers.iterableWithSize(threads)
+        );
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import com.yegor256.Together;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link MnLogged}.
+ * @since 1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class MnLoggedTest {
+
+    @Test
+    void replaysLogWhenNotClosed(@Mktmp final Path temp) throws IOException {
+        final Path path = temp.resolve("replayed.tabs");
+        final Path log = temp.resolve("replayed.log");
+        final Mono first = new MnLogged(new MnTabs(path), log, 100_000L);
+        new TjDefault(first).add("x").set("a", "b");
+        try (Mono second = new MnLogged(new MnTabs(path), log)) {
+            MatcherAssert.assertThat(
+                "must read the rows from the log, after a crash",
+                new TjSmart(new TjDefault(second)).getById("x").get("a"),
+                Matchers.equalTo("b")
+            );
+        } finally {
+            first.close();
+        }
+    }
+
+    @Test
+    void leavesOriginAloneUntilCheckpoint(@Mktmp final Path temp) throws IOException {
+        final Mono origin = new MnMemory();
+        final Mono mono = new MnLogged(origin, temp.resolve("alone.log"), 100_000L);
+        try {
+            new TjDefault(mono).add("y");
+            MatcherAssert.assertThat(
+                "must not write the origin on every write",
+                origin.read(),
+                Matchers.empty()
+            );
+        } finally {
+            mono.close();
+        }
+    }
+
+    @Test
+    void writesOriginAndEmptiesLogOnClose(@Mktmp final Path temp) throws IOException {
+        final Path log = temp.resolve("closed.log");
+        final Mono mono = new MnLogged(new MnMemory(), log, 100_000L);
+        new TjDefault(mono).add("z").set("k", "v");
+        mono.close();
+        MatcherAssert.assertThat(
+            "must empty the log after the origin is written",
+            Files.size(log),
+            Matchers.equalTo(0L)
+        );
+    }
+
+    @Test
+    void keepsOnlyRowsWrittenInMemory(@Mktmp final Path temp) throws IOException {
+        final Mono mono = new MnLogged(new MnMemory(), temp.resolve("kept.log"), 100_000L);
+        try {
+            final Tojos tojos = new TjDefault(mono);
+            tojos.add("a").set("k", "1");
+            tojos.add("b").set("k", "2");
+            final Collection<Map<String, String>> rows = mono.read();
+            final Map<String, String> row = rows.iterator().next();
+            row.put("k", "3");
+            mono.write(rows, Collections.singleton(row));
+            row.put("k", "4");
+            MatcherAssert.assertThat(
+                "must keep the rows as they were written, not as they are now",
+                mono.read(),
+                Matchers.contains(
+                    Matchers.hasEntry("k", "3"), Matchers.hasEntry("k", "2")
+                )
+            );
+        } finally {
+            mono.close();
+        }
+    }
+
+    @Test
+    void checkpointsAgainAfterFailure(@Mktmp final Path temp) throws Exception {
+        final Path blocker = Files.createFile(temp.resolve("blocked"));
+        final Path path = blocker.resolve("rows.tabs");
+        final Mono mono = new MnLogged(new MnTabs(path), temp.resolve("failed.log"), 50L);
+        new TjDefault(mono).add("w");
+        Thread.sleep(300L);
+        Files.delete(blocker);
+        final long start = System.currentTimeMillis();
+        while (!Files.exists(path) && System.currentTimeMillis() - start < 10_000L) {
+            Thread.sleep(10L);
+        }
+        final boolean written = Files.exists(path);
+        mono.close();
+        MatcherAssert.assertThat(
+            "must write the origin in the background after it failed once",
+            written,
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void ignoresWriteNotFinished(@Mktmp final Path temp) throws IOException {
+        final Path log = temp.resolve("torn.log");
+        Files.write(
+            log,
+            String.format(
+                "+%s\n.\n+%s\n",
+                MnTabs.line(Collections.singletonMap(Tojos.ID_KEY, "done")),
+                MnTabs.line(Collections.singletonMap(Tojos.ID_KEY, "torn"))
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        final Mono mono = new MnLogged(new MnMemory(), log);
+        try {
+            MatcherAssert.assertThat(
+                "must replay only the writes that were finished",
+                mono.read(),
+                Matchers.contains(Collections.singletonMap(Tojos.ID_KEY, "done"))
+            );
+        } finally {
+            mono.close();
+        }
+    }
+
+    @Test
+    void logsWritesOfManyThreads(@Mktmp final Path temp) throws IOException {
+        final Path path = temp.resolve("threads.tabs");
+        final Path log = temp.resolve("threads.log");
+        final Mono mono = new MnLogged(new MnTabs(path), log, 100_000L);
+        final Tojos tojos = new TjDefault(mono);
+        final int threads = 8;
+        new Together<>(
+            threads, thread -> tojos.add(String.format("t%d", thread)).toString()
+        ).asList();
+        try (Mono second = new MnLogged(new MnTabs(path), log)) {
+            MatcherAssert.assertThat(
+                "must find all rows in the log, written by all threads",
+                second.read(),
+                Matchers.iterableWithSize(threads)
+            );
+        } finally {
+            mono.close();
+        }
+    }
+}
@@ -6,8 +6,10 @@ package com.yegor256.tojos;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -43,4 +45,29 @@ final class MnMemoryTest {
             Matchers.equalTo(value)
         );
     }
+
+    @Test
+    void readsOnlyGivenColumns() {
+        final Mono mono = new MnMemory();
+        new TjDefault(mono).add("x").set("a", "1").set("b", "2");
+        MatcherAssert.assertThat(
+            "must read only the given columns",
+            mono.read(Collections.singleton("b")),
+            Matchers.contains(Collections.singletonMap("b", "2"))
+        );
+    }
+
+    @Test
+    void streamsOnlyGivenColumnsOfRowsThatPass() {
+        final Mono mono = new MnMemory();
+        final Tojos tojos = new TjDefault(mono);
+        tojos.add("x").set("a", "1").set("b", "2");
+        tojos.add("y").set("a", "3").set("b", "4");
+        MatcherAssert.assertThat(
+            "must stream only the given columns of rows that pass",
+            mono.stream(Collections.singleton("b"), "b", "4"::equals)
+                .collect(Collectors.toList()),
+            Matchers.contains(Collections.singletonMap("b", "4"))
+        );
+    }
 }
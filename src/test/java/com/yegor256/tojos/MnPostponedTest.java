@@ -6,7 +6,17 @@ package com.yegor256.tojos;
 
 import com.yegor256.Mktmp;
 import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -49,4 +59,150 @@ final class MnPostponedTest {
             Matchers.notNullValue()
         );
     }
+
+    @Test
+    void passesOnlyChangedRowsToOrigin(@Mktmp final Path temp) throws IOException {
+        final Path path = temp.resolve("changes.tabs");
+        final List<Map<String, String>> rows = new ArrayList<>(0);
+        for (int idx = 0; idx < 3; ++idx) {
+            rows.add(new HashMap<>(Collections.singletonMap(Tojos.ID_KEY, "x".repeat(idx))));
+        }
+        new MnTabs(path).write(rows);
+        final Mono mono = new MnPostponed(
+            new MnTabs(path, false, new SvDirect(), true), 100_000L
+        );
+        new TjSmart(new TjDefault(mono)).getById("xx").set("k", "v");
+        mono.close();
+        MatcherAssert.assertThat(
+            "must append only the changed row to the file",
+            Files.readAllLines(path),
+            Matchers.hasItem(Matchers.startsWith("!"))
+        );
+    }
+
+    @Test
+    void flushesManyThroughOneScheduler(@Mktmp final Path temp) throws IOException {
+        final ScheduledExecutorService service = Executors.newScheduledThreadPool(1);
+        final int total = 10;
+        final Collection<Mono> monos = new ArrayList<>(total);
+        for (int idx = 0; idx < total; ++idx) {
+            final Mono mono = new MnPostponed(
+                new MnJson(temp.resolve(String.format("%d.json", idx))), 1L, service
+            );
+            new TjDefault(mono).add("x").set("k", idx);
+            monos.add(mono);
+        }
+        for (final Mono mono : monos) {
+            mono.close();
+        }
+        service.shutdown();
+        MatcherAssert.assertThat(
+            "must save every mono",
+            new TjDefault(new MnJson(temp.resolve("9.json"))).select(t -> true).get(0).get("k"),
+            Matchers.equalTo("9")
+        );
+    }
+
+    @Test
+    void leavesSharedSchedulerRunning(@Mktmp final Path temp) throws IOException {
+        final ScheduledExecutorService service = Executors.newScheduledThreadPool(1);
+        final Mono mono = new MnPostponed(new MnJson(temp.resolve("a.json")), 10L, service);
+        new TjDefault(mono).add("y");
+        mono.close();
+        final boolean stopped = service.isShutdown();
+        service.shutdown();
+        MatcherAssert.assertThat(
+            "must not stop the scheduler it doesn't own",
+            stopped,
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void flushesAsPolicyDecides() throws Exception {
+        final MnCounted origin = new MnCounted(new MnMemory());
+        final Mono postponed = new MnPostponed(origin, new FlAdaptive(1, 1L << 20, 100_000L));
+        new TjDefault(postponed).add("now");
+        final long start = System.currentTimeMillis();
+        while (origin.writes() == 0 && System.currentTimeMillis() - start < 10_000L) {
+            Thread.sleep(10L);
+        }
+        final int flushes = origin.writes();
+        postponed.close();
+        MatcherAssert.assertThat(
+            "must flush right after the write, without waiting",
+            flushes,
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void writesRightToOriginAfterClose() throws IOException {
+        final Mono origin = new MnMemory();
+        final Mono mono = new MnPostponed(origin, 100_000L);
+        mono.close();
+        mono.write(Collections.singleton(Collections.singletonMap(Tojos.ID_KEY, "late")));
+        MatcherAssert.assertThat(
+            "must write to the origin right away, when the scheduler is stopped",
+            origin.read(),
+            Matchers.iterableWithSize(1)
+        );
+    }
+
+    @Test
+    void dropsFlushScheduledBeforePreviousOne() throws Exception {
+        final MnCounted origin = new MnCounted(new MnMemory());
+        final Mono mono = new MnPostponed(origin, new FlScripted(300L, 0L, 100_000L));
+        final Collection<Map<String, String>> rows = Collections.singleton(
+            Collections.singletonMap(Tojos.ID_KEY, "a")
+        );
+        mono.write(rows, rows);
+        mono.write(rows, rows);
+        final long start = System.currentTimeMillis();
+        while (origin.writes() == 0 && System.currentTimeMillis() - start < 10_000L) {
+            Thread.sleep(10L);
+        }
+        mono.write(rows, rows);
+        Thread.sleep(600L);
+        final int flushes = origin.writes();
+        mono.close();
+        MatcherAssert.assertThat(
+            "must not flush earlier than the policy asked after the previous flush",
+            flushes,
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void tellsPolicyNothingAboutRowsWrittenInWhole() throws IOException {
+        final FlScripted policy = new FlScripted(100_000L);
+        final Mono mono = new MnPostponed(new MnMemory(), policy);
+        final List<Map<String, String>> rows = new ArrayList<>(0);
+        for (int idx = 0; idx < 100; ++idx) {
+            rows.add(Collections.singletonMap(Tojos.ID_KEY, String.valueOf(idx)));
+        }
+        mono.write(rows);
+        mono.close();
+        MatcherAssert.assertThat(
+            "must not look through the rows to tell the policy what changed",
+            policy.changed(),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void keepsRowsWhenFlushFails(@Mktmp final Path temp) throws Exception {
+        final Path blocker = Files.createFile(temp.resolve("blocked"));
+        final Path path = blocker.resolve("rows.tabs");
+        final Mono mono = new MnPostponed(new MnTabs(path), 10L);
+        new TjDefault(mono).add("f");
+        Thread.sleep(300L);
+        Files.delete(blocker);
+        mono.close();
+        MatcherAssert.assertThat(
+            "must flush on close what failed to be flushed in the background",
+            new MnTabs(path).read(),
+            Matchers.iterableWithSize(1)
+        );
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A mono that lets a rival write right after it is read the first time.
+ *
+ * <p>It is how another process, that writes between a read and a write
+ * of this one, looks like to it.</p>
+ *
+ * @since 1.0
+ */
+final class MnRaced implements Mono {
+
+    /**
+     * The mono that does the work.
+     */
+    private final Mono origin;
+
+    /**
+     * What the rival does.
+     */
+    private final Runnable rival;
+
+    /**
+     * Did the rival write already?
+     */
+    private final AtomicBoolean raced;
+
+    /**
+     * Ctor.
+     * @param mono The mono that does the work
+     * @param other What the rival does
+     */
+    MnRaced(final Mono mono, final Runnable other) {
+        this.origin = mono;
+        this.rival = other;
+        this.raced = new AtomicBoolean(false);
+    }
+
+    @Override
+    public Collection<Map<String, String>> read() {
+        final Collection<Map<String, String>> rows = this.origin.read();
+        if (this.raced.compareAndSet(false, true)) {
+            this.rival.run();
+        }
+        return rows;
+    }
+
+    @Override
+    public Optional<String> version() {
+        return this.origin.version();
+    }
+
+    @Override
+    public void write(final Collection<Map<String, String>> rows) {
+        this.origin.write(rows);
+    }
+
+    @Override
+    public void write(final Collection<Map<String, String>> rows,
+        final Collection<Map<String, String>> changed) {
+        this.origin.write(rows, changed);
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.origin.close();
+    }
+}
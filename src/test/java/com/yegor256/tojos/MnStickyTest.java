@@ -56,6 +56,48 @@ final class MnStickyTest {
         );
     }
 
+    @Test
+    void readsChangesMadeByOthersWhenValidating(@Mktmp final Path temp) {
+        final Path path = temp.resolve("validated.csv");
+        final Mono sticky = new MnSticky(new MnCsv(path), true);
+        new TjDefault(sticky).add("a");
+        sticky.read();
+        new TjDefault(new MnCsv(path)).add("b");
+        MatcherAssert.assertThat(
+            "must read the file again after someone else changed it",
+            sticky.read(),
+            Matchers.hasSize(2)
+        );
+    }
+
+    @Test
+    void showsChangesMadeByOthersThroughTojo(@Mktmp final Path temp) {
+        final Path path = temp.resolve("seen.csv");
+        final Tojo tojo = new TjDefault(new MnSticky(new MnCsv(path), true)).add("a");
+        tojo.set("status", "new");
+        new TjDefault(new MnCsv(path)).add("a").set("status", "done");
+        MatcherAssert.assertThat(
+            "must give the value set by someone else",
+            tojo.get("status"),
+            Matchers.equalTo("done")
+        );
+    }
+
+    @Test
+    void readsOriginOnceWhileItDoesNotChange() {
+        final MnCounted origin = new MnCounted(new MnMemory());
+        final Mono sticky = new MnSticky(origin, true);
+        new TjDefault(sticky).add("x").set("k", "v");
+        final int before = origin.reads();
+        sticky.read();
+        sticky.read();
+        MatcherAssert.assertThat(
+            "must not read the original mono while its version stays",
+            origin.reads() - before,
+            Matchers.equalTo(0)
+        );
+    }
+
     @Test
     void readsAndWritesConcurrentlyWithHighFrequency(@Mktmp final Path temp) {
         final int processors = Runtime.getRuntime().availableProcessors();
@@ -9,9 +9,14 @@ import com.yegor256.MktmpResolver;
 import com.yegor256.Together;
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 /**
@@ -43,4 +48,35 @@ final class MnSynchronizedTest {
             Matchers.not(Matchers.hasItem(0))
         );
     }
+
+    @Test
+    void readsWhileAnotherReaderHoldsLock() throws Exception {
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        final Mono mono = new MnSynchronized(new MnMemory(), lock);
+        final ExecutorService service = Executors.newSingleThreadExecutor();
+        lock.readLock().lock();
+        try {
+            MatcherAssert.assertThat(
+                "must let the second reader in while the first one still reads",
+                service.submit(() -> mono.read()).get(10L, TimeUnit.SECONDS),
+                Matchers.empty()
+            );
+        } finally {
+            lock.readLock().unlock();
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void streamsOnlyRowsThatPass(@Mktmp final Path temp) {
+        final Mono mono = new MnSynchronized(new MnTabs(temp.resolve("s.tabs")));
+        final Tojos tojos = new TjDefault(mono);
+        tojos.add("a").set("k", "x");
+        tojos.add("b").set("k", "y");
+        MatcherAssert.assertThat(
+            "must take rows from the origin that pass",
+            tojos.select(new FtEquals("k", "x")),
+            Matchers.iterableWithSize(1)
+        );
+    }
 }
@@ -6,12 +6,22 @@ package com.yegor256.tojos;
 
 import com.yegor256.Mktmp;
 import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -76,4 +86,189 @@ final class MnTabsTest {
             Matchers.equalTo(2)
         );
     }
+
+    @Test
+    void appendsChangedRowInsteadOfRewriting(@Mktmp final Path temp) throws IOException {
+        final Path path = temp.resolve("appended.tabs");
+        final Mono tabs = new MnTabs(path, false, new SvDirect(), true);
+        tabs.write(MnTabsTest.rows(3));
+        final Collection<Map<String, String>> rows = tabs.read();
+        final Map<String, String> row = rows.iterator().next();
+        row.put("k", "changed");
+        tabs.write(rows, Collections.singleton(row));
+        MatcherAssert.assertThat(
+            "must append one line to the end of the file",
+            Files.readAllLines(path, StandardCharsets.UTF_8),
+            Matchers.hasSize(4)
+        );
+    }
+
+    @Test
+    void rewritesChangedRowUnlessInLogMode(@Mktmp final Path temp) throws IOException {
+        final Path path = temp.resolve("rewritten.tabs");
+        final Mono tabs = new MnTabs(path);
+        tabs.write(MnTabsTest.rows(3));
+        final Collection<Map<String, String>> rows = tabs.read();
+        final Map<String, String> row = rows.iterator().next();
+        row.put("k", "changed");
+        tabs.write(rows, Collections.singleton(row));
+        MatcherAssert.assertThat(
+            "must keep one line per row, without appending",
+            Files.readAllLines(path, StandardCharsets.UTF_8),
+            Matchers.hasSize(3)
+        );
+    }
+
+    @Test
+    void readsAppendedRowInPlaceOfOlderOne(@Mktmp final Path temp) {
+        final Mono tabs = new MnTabs(temp.resolve("replaced.tabs"), false, new SvDirect(), true);
+        tabs.write(MnTabsTest.rows(3));
+        final Collection<Map<String, String>> rows = tabs.read();
+        final Map<String, String> row = rows.iterator().next();
+        row.put("k", "changed");
+        tabs.write(rows, Collections.singleton(row));
+        MatcherAssert.assertThat(
+            "must read the appended row instead of the older one",
+            tabs.read(),
+            Matchers.hasItem(row)
+        );
+    }
+
+    @Test
+    void compactsAppendedRowsWhenClosed(@Mktmp final Path temp) throws IOException {
+        final Path path = temp.resolve("compacted.tabs");
+        final Mono tabs = new MnTabs(path, false, new SvDirect(), true);
+        tabs.write(MnTabsTest.rows(5));
+        final Collection<Map<String, String>> rows = tabs.read();
+        for (final Map<String, String> row : rows) {
+            row.put("k", "again");
+            tabs.write(rows, Collections.singleton(row));
+        }
+        tabs.close();
+        MatcherAssert.assertThat(
+            "must leave one line per row after closing",
+            Files.readAllLines(path, StandardCharsets.UTF_8),
+            Matchers.hasSize(5)
+        );
+    }
+
+    @Test
+    void streamsRows(@Mktmp final Path temp) {
+        final Mono mono = new MnTabs(temp.resolve("streamed.tabs"));
+        final Collection<Map<String, String>> rows = new ArrayList<>(0);
+        for (int idx = 0; idx < 3; ++idx) {
+            final Map<String, String> row = new HashMap<>(0);
+            row.put(Tojos.ID_KEY, String.format("s-%d", idx));
+            row.put("v", Integer.toString(idx));
+            rows.add(row);
+        }
+        mono.write(rows);
+        try (Stream<Map<String, String>> stream = mono.stream()) {
+            MatcherAssert.assertThat(
+                "must stream rows in the order they were written",
+                stream.map(row -> row.get("v")).collect(Collectors.toList()),
+                Matchers.contains("0", "1", "2")
+            );
+        }
+    }
+
+    @Test
+    void readsMappedFileAsUsual(@Mktmp final Path temp) {
+        final Path path = temp.resolve("mapped.tabs");
+        final Mono tabs = new MnTabs(path, false, new SvDirect(), true);
+        final Collection<Map<String, String>> rows = MnTabsTest.rows(3);
+        final Map<String, String> row = new HashMap<>(0);
+        row.put(Tojos.ID_KEY, "привет,\t\015\012 друг!");
+        row.put("a+b", "100%");
+        rows.add(row);
+        tabs.write(rows);
+        final Collection<Map<String, String>> before = tabs.read();
+        final Map<String, String> first = before.iterator().next();
+        first.put("k", "appended");
+        tabs.write(before, Collections.singleton(first));
+        MatcherAssert.assertThat(
+            "must read the same rows when the file is mapped",
+            new MnTabs(path, true).read(),
+            Matchers.equalTo(tabs.read())
+        );
+    }
+
+    @Test
+    void readsMappedFilePartByPart(@Mktmp final Path temp) {
+        final Path path = temp.resolve("windows.tabs");
+        final Mono tabs = new MnTabs(path);
+        tabs.write(MnTabsTest.rows(20));
+        MatcherAssert.assertThat(
+            "must read the same rows when the file is mapped in small parts",
+            new MnTabs(path, 64L, new SvDirect(), false).read(),
+            Matchers.equalTo(tabs.read())
+        );
+    }
+
+    @Test
+    void rejectsLineLongerThanMappedPart(@Mktmp final Path temp) {
+        final Path path = temp.resolve("long.tabs");
+        new MnTabs(path).write(MnTabsTest.rows(3));
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new MnTabs(path, 4L, new SvDirect(), false).read(),
+            "must reject a line that doesn't fit into a mapped part"
+        );
+    }
+
+    @Test
+    void readsOnlyGivenColumns(@Mktmp final Path temp) {
+        final Mono mono = new MnTabs(temp.resolve("projected.tabs"));
+        new TjDefault(mono).add("x").set("a", "1").set("b", "2");
+        MatcherAssert.assertThat(
+            "must read only the given columns",
+            mono.read(Collections.singleton("b")),
+            Matchers.contains(Collections.singletonMap("b", "2"))
+        );
+    }
+
+    @Test
+    void streamsOnlyRowsThatPass(@Mktmp final Path temp) {
+        final Mono tabs = new MnTabs(temp.resolve("filtered.tabs"), false, new SvDirect(), true);
+        tabs.write(MnTabsTest.rows(4));
+        final Collection<Map<String, String>> rows = tabs.read();
+        final Map<String, String> row = rows.iterator().next();
+        row.put("k", "changed");
+        tabs.write(rows, Collections.singleton(row));
+        try (Stream<Map<String, String>> stream = tabs.stream(
+            new HashSet<>(Arrays.asList(Tojos.ID_KEY, "k")), "k", "v"::equals
+        )) {
+            MatcherAssert.assertThat(
+                "must stream only rows that pass, with appended ones",
+                stream.map(r -> r.get(Tojos.ID_KEY)).collect(Collectors.toList()),
+                Matchers.contains("row-1", "row-2", "row-3")
+            );
+        }
+    }
+
+    @Test
+    void appendsAtomically(@Mktmp final Path temp) {
+        final Mono tabs = new MnTabs(temp.resolve("atomic.tabs"), false, new SvAtomic(), true);
+        tabs.write(MnTabsTest.rows(2));
+        final Collection<Map<String, String>> rows = tabs.read();
+        final Map<String, String> row = rows.iterator().next();
+        row.put("k", "atomic");
+        tabs.write(rows, Collections.singleton(row));
+        MatcherAssert.assertThat(
+            "must read the row appended through a temporary file",
+            tabs.read(),
+            Matchers.hasItem(row)
+        );
+    }
+
+    private static Collection<Map<String, String>> rows(final int total) {
+        final Collection<Map<String, String>> rows = new ArrayList<>(total);
+        for (int idx = 0; idx < total; ++idx) {
+            final Map<String, String> row = new HashMap<>(2);
+            row.put(Tojos.ID_KEY, String.format("row-%d", idx));
+            row.put("k", "v");
+            rows.add(row);
+        }
+        return rows;
+    }
 }
@@ -72,4 +72,13 @@ final class MnYamlTest {
             Matchers.empty()
         );
     }
+
+    @Test
+    void readsAbsentFileAsEmptyCollection(@Mktmp final Path temp) {
+        MatcherAssert.assertThat(
+            "must read nothing when there is no file",
+            new MnYaml(temp.resolve("absent.yml")).read(),
+            Matchers.empty()
+        );
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Records}.
+ * @since 1.0
+ */
+final class RecordsTest {
+
+    @Test
+    void readsPlainCells() throws IOException {
+        MatcherAssert.assertThat(
+            "must split lines by commas",
+            RecordsTest.all("a,b\nc,,d\n"),
+            Matchers.contains(
+                Arrays.asList("a", "b"),
+                Arrays.asList("c", "", "d")
+            )
+        );
+    }
+
+    @Test
+    void readsQuotedCells() throws IOException {
+        MatcherAssert.assertThat(
+            "must keep commas, line breaks and quotes inside quoted cells",
+            RecordsTest.all("\"a,b\",\"c\nd\",\"e\"\"f\"\n"),
+            Matchers.contains(Arrays.asList("a,b", "c\nd", "e\"f"))
+        );
+    }
+
+    @Test
+    void readsLinesEndingWithCrLf() throws IOException {
+        MatcherAssert.assertThat(
+            "must end lines with CRLF, as well as with LF",
+            RecordsTest.all("\"x\",y\r\nz\r\n"),
+            Matchers.contains(Arrays.asList("x", "y"), Arrays.asList("z"))
+        );
+    }
+
+    @Test
+    void readsLastLineWithoutBreak() throws IOException {
+        MatcherAssert.assertThat(
+            "must read the last line, even if it doesn't end with a break",
+            RecordsTest.all("a\nb,\"c\""),
+            Matchers.contains(Arrays.asList("a"), Arrays.asList("b", "c"))
+        );
+    }
+
+    @Test
+    void readsCellsLargerThanBuffer() throws IOException {
+        final String big = "x".repeat(200_000);
+        MatcherAssert.assertThat(
+            "must read cells that cross the end of the buffer",
+            RecordsTest.all(String.format("%s,\"%s\"\n", big, big)),
+            Matchers.contains(Arrays.asList(big, big))
+        );
+    }
+
+    @Test
+    void readsEqualValuesAsOneString() throws IOException {
+        final Records records = new Records(new StringReader("hello\nhello\n"), true);
+        final String first = records.next()[0];
+        MatcherAssert.assertThat(
+            "must give the same string for equal values",
+            records.next()[0],
+            Matchers.sameInstance(first)
+        );
+    }
+
+    @Test
+    void returnsNullAfterLastLine() throws IOException {
+        final Records records = new Records(new StringReader("a\n"), false);
+        records.next();
+        MatcherAssert.assertThat(
+            "must return NULL when there are no more lines",
+            records.next(),
+            Matchers.nullValue()
+        );
+    }
+
+    private static List<List<String>> all(final String text) throws IOException {
+        final Records records = new Records(new StringReader(text), false);
+        final List<List<String>> all = new ArrayList<>(0);
+        String[] next = records.next();
+        while (next != null) {
+            all.add(Arrays.asList(next));
+            next = records.next();
+        }
+        return all;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Rfc4180}.
+ * @since 1.0
+ */
+final class Rfc4180Test {
+
+    @Test
+    void printsEveryCellInQuotes() throws IOException {
+        final StringWriter writer = new StringWriter();
+        new Rfc4180(false).printer(writer).print("a", "", "b\"c");
+        MatcherAssert.assertThat(
+            "must quote every cell and double the quotes inside",
+            writer.toString(),
+            Matchers.equalTo("\"a\",\"\",\"b\"\"c\"\n")
+        );
+    }
+
+    @Test
+    void readsWhatItPrints() throws IOException {
+        final String[] cells = {"x,y", "\"quoted\"", "two\nlines", "\\back"};
+        final StringWriter writer = new StringWriter();
+        final Csv csv = new Rfc4180(false);
+        csv.printer(writer).print(cells);
+        MatcherAssert.assertThat(
+            "must read the cells back as they were printed",
+            Arrays.asList(csv.lines(new StringReader(writer.toString())).next()),
+            Matchers.equalTo(Arrays.asList(cells))
+        );
+    }
+}
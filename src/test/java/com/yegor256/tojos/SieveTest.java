@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Sieve}.
+ * @since 1.0
+ */
+final class SieveTest {
+
+    @Test
+    void keepsOrderWhenParallel() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            MatcherAssert.assertThat(
+                "must keep items that pass in the order they arrived",
+                new Sieve(pool, 10).passed(
+                    IntStream.range(0, 1000).boxed(), num -> num % 7 == 0
+                ),
+                Matchers.equalTo(
+                    IntStream.range(0, 1000).filter(num -> num % 7 == 0)
+                        .boxed().collect(Collectors.toList())
+                )
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testsInCallerThreadBelowThreshold() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        try {
+            new Sieve(pool, 100).passed(
+                IntStream.range(0, 99).boxed(),
+                num -> threads.add(Thread.currentThread())
+            );
+        } finally {
+            pool.shutdown();
+        }
+        MatcherAssert.assertThat(
+            "must test items only in the thread of the caller",
+            threads,
+            Matchers.contains(Thread.currentThread())
+        );
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Snapshot}.
+ * @since 1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class SnapshotTest {
+
+    @Test
+    void readsMonoOnceWhileVersionStays() {
+        final MnCounted mono = new MnCounted(new MnMemory());
+        final Snapshot snapshot = new Snapshot(mono);
+        snapshot.rows();
+        snapshot.rows();
+        MatcherAssert.assertThat(
+            "must read the mono only once",
+            mono.reads(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void seesRowsWrittenByOthers(@Mktmp final Path temp) {
+        final Path path = temp.resolve("others.csv");
+        new TjDefault(new MnCsv(path)).add("a");
+        final Snapshot snapshot = new Snapshot(new MnCsv(path));
+        snapshot.rows();
+        new TjDefault(new MnCsv(path)).add("b");
+        MatcherAssert.assertThat(
+            "must read the rows again when the file changed",
+            snapshot.rows(),
+            Matchers.hasSize(2)
+        );
+    }
+
+    @Test
+    void keepsRowsItWrote() {
+        final MnCounted mono = new MnCounted(new MnMemory());
+        final Snapshot snapshot = new Snapshot(mono);
+        final Collection<Map<String, String>> rows = snapshot.rows();
+        final Map<String, String> row = Collections.singletonMap(Tojos.ID_KEY, "x");
+        rows.add(row);
+        snapshot.write(rows, Collections.singleton(row));
+        snapshot.rows();
+        MatcherAssert.assertThat(
+            "must not read the rows it has just written",
+            mono.reads(),
+            Matchers.equalTo(1)
+        );
+    }
+}
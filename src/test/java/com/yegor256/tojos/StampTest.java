@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link Stamp}.
+ * @since 1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class StampTest {
+
+    @Test
+    void changesWhenWrittenThrough(@Mktmp final Path temp) throws IOException {
+        final Path path = temp.resolve("through.txt");
+        Files.write(path, "a".getBytes(StandardCharsets.UTF_8));
+        final Stamp stamp = new Stamp(path);
+        final String before = stamp.version();
+        Files.write(path, "b".getBytes(StandardCharsets.UTF_8));
+        stamp.written();
+        MatcherAssert.assertThat(
+            "must change even if the size of the file stays the same",
+            stamp.version(),
+            Matchers.not(Matchers.equalTo(before))
+        );
+    }
+
+    @Test
+    void changesWhenWrittenByOthers(@Mktmp final Path temp) throws IOException {
+        final Path path = temp.resolve("others.txt");
+        final Stamp stamp = new Stamp(path);
+        final String before = stamp.version();
+        Files.write(path, "hello".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "must change when the file is written by someone else",
+            stamp.version(),
+            Matchers.not(Matchers.equalTo(before))
+        );
+    }
+
+    @Test
+    void staysWhenNothingChanges(@Mktmp final Path temp) throws IOException {
+        final Path path = temp.resolve("same.txt");
+        Files.write(path, "same".getBytes(StandardCharsets.UTF_8));
+        final Stamp stamp = new Stamp(path);
+        MatcherAssert.assertThat(
+            "must stay the same while the file is not touched",
+            stamp.version(),
+            Matchers.equalTo(stamp.version())
+        );
+    }
+}
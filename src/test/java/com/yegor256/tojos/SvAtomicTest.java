@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test case for {@link SvAtomic}.
+ * @since 1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class SvAtomicTest {
+
+    @Test
+    void writesAndAppends(@Mktmp final Path temp) throws IOException {
+        final Path path = temp.resolve("atomic.txt");
+        final Save save = new SvAtomic();
+        save.write(path, out -> out.write("hello".getBytes(StandardCharsets.UTF_8)));
+        save.append(path, out -> out.write(", world".getBytes(StandardCharsets.UTF_8)));
+        MatcherAssert.assertThat(
+            "must write the content and then add more to it",
+            new String(Files.readAllBytes(path), StandardCharsets.UTF_8),
+            Matchers.equalTo("hello, world")
+        );
+    }
+
+    @Test
+    void leavesOldFileWhenFails(@Mktmp final Path temp) throws IOException {
+        final Path path = temp.resolve("old.txt");
+        final Save save = new SvAtomic(false);
+        save.write(path, out -> out.write("old".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertThrows(
+            IOException.class,
+            () -> save.write(
+                path,
+                out -> {
+                    out.write("new".getBytes(StandardCharsets.UTF_8));
+                    throw new IOException("broken");
+                }
+            ),
+            "must fail as the content fails"
+        );
+        MatcherAssert.assertThat(
+            "must leave the old file in place",
+            new String(Files.readAllBytes(path), StandardCharsets.UTF_8),
+            Matchers.equalTo("old")
+        );
+    }
+
+    @Test
+    void leavesNoTemporaryFiles(@Mktmp final Path temp) throws IOException {
+        final Tojos tojos = new TjDefault(new MnCsv(temp.resolve("clean.csv"), new SvAtomic()));
+        tojos.add("a").set("k", "v");
+        MatcherAssert.assertThat(
+            "must leave only the file itself",
+            SvAtomicTest.names(temp),
+            Matchers.contains("clean.csv")
+        );
+    }
+
+    @Test
+    void leavesNoTemporaryFilesWhenFails(@Mktmp final Path temp) throws IOException {
+        final Path path = temp.resolve("failed.txt");
+        final Save save = new SvAtomic();
+        save.write(path, out -> out.write("old".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertThrows(
+            IOException.class,
+            () -> save.append(
+                path,
+                out -> {
+                    throw new IOException("broken");
+                }
+            ),
+            "must fail as the content fails"
+        );
+        MatcherAssert.assertThat(
+            "must leave only the file itself, after the failure",
+            SvAtomicTest.names(temp),
+            Matchers.contains("failed.txt")
+        );
+    }
+
+    @Test
+    void keepsOldFileWhenAppendFails(@Mktmp final Path temp) throws IOException {
+        final Path path = temp.resolve("kept.txt");
+        final Save save = new SvAtomic(false);
+        save.write(path, out -> out.write("old".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertThrows(
+            IOException.class,
+            () -> save.append(
+                path,
+                out -> {
+                    out.write(", new".getBytes(StandardCharsets.UTF_8));
+                    throw new IOException("broken");
+                }
+            ),
+            "must fail as the content fails"
+        );
+        MatcherAssert.assertThat(
+            "must leave the old file in place, without the part added",
+            new String(Files.readAllBytes(path), StandardCharsets.UTF_8),
+            Matchers.equalTo("old")
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"a.csv", "a.json", "a.yml", "a.bin"})
+    void savesEveryFormat(final String file, @Mktmp final Path temp) {
+        final Path path = temp.resolve(file);
+        new TjDefault(SvAtomicTest.mono(path, new SvAtomic())).add("a").set("k", "v");
+        MatcherAssert.assertThat(
+            "must read the row saved through a temporary file",
+            new TjDefault(SvAtomicTest.mono(path, new SvDirect())).select(t -> true)
+                .get(0).get("k"),
+            Matchers.equalTo("v")
+        );
+    }
+
+    private static Mono mono(final Path path, final Save save) {
+        final String name = path.getFileName().toString();
+        final Mono mono;
+        if (name.endsWith(".csv")) {
+            mono = new MnCsv(path, save);
+        } else if (name.endsWith(".json")) {
+            mono = new MnJson(path, save);
+        } else if (name.endsWith(".yml")) {
+            mono = new MnYaml(path, save);
+        } else {
+            mono = new MnBinary(path, save);
+        }
+        return mono;
+    }
+
+    private static List<String> names(final Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(file -> file.getFileName().toString())
+                .collect(Collectors.toList());
+        }
+    }
+}
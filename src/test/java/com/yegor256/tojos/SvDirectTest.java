@@ -0,0 +1,37 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import com.yegor256.Mktmp;
+import com.yegor256.MktmpResolver;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Test case for {@link SvDirect}.
+ * @since 1.0
+ */
+@ExtendWith(MktmpResolver.class)
+final class SvDirectTest {
+
+    @Test
+    void writesAndAppends(@Mktmp final Path temp) throws IOException {
+        final Path path = temp.resolve("direct.txt");
+        final Save save = new SvDirect();
+        save.write(path, out -> out.write("hello".getBytes(StandardCharsets.UTF_8)));
+        save.append(path, out -> out.write(", world".getBytes(StandardCharsets.UTF_8)));
+        MatcherAssert.assertThat(
+            "must write the content and then add more to it",
+            new String(Files.readAllBytes(path), StandardCharsets.UTF_8),
+            Matchers.equalTo("hello, world")
+        );
+    }
+}
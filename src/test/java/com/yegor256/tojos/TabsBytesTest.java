@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2021-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.yegor256.tojos;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link TabsBytes}.
+ * @since 1.0
+ */
+final class TabsBytesTest {
+
+    @Test
+    void decodesEncodedCells() {
+        MatcherAssert.assertThat(
+            "must decode keys and values with percents and pluses",
+            TabsBytesTest.rows("id:Jeff+Lebowski\tsalary:%245%2C000\n").get(0),
+            Matchers.allOf(
+                Matchers.hasEntry("id", "Jeff Lebowski"),
+                Matchers.hasEntry("salary", "$5,000")
+            )
+        );
+    }
+
+    @Test
+    void keepsPlainCellsAsTheyAre() {
+        MatcherAssert.assertThat(
+            "must take cells without percents and pluses as they are",
+            TabsBytesTest.rows("id:привет\tage:35").get(0),
+            Matchers.allOf(
+                Matchers.hasEntry("id", "привет"),
+                Matchers.hasEntry("age", "35")
+            )
+        );
+    }
+
+    @Test
+    void readsEmptyLinesAsEmptyRows() {
+        MatcherAssert.assertThat(
+            "must read an empty line as an empty row",
+            TabsBytesTest.rows("\r\n\nid:x\r\n"),
+            Matchers.hasSize(3)
+        );
+    }
+
+    @Test
+    void marksAppendedLines() {
+        final List<Boolean> marks = new ArrayList<>(0);
+        new TabsBytes(
+            ByteBuffer.wrap("id:a\n!id:a\tk:v\n".getBytes(StandardCharsets.UTF_8))
+        ).forEach((later, row) -> marks.add(later));
+        MatcherAssert.assertThat(
+            "must mark lines that start with an exclamation mark",
+            marks,
+            Matchers.contains(false, true)
+        );
+    }
+
+    @Test
+    void rejectsColumnWithoutColon() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> TabsBytesTest.rows("id:a\tbroken\n"),
+            "must reject a column without a colon"
+        );
+    }
+
+    @Test
+    void skipsUnwantedKeys() {
+        final List<Map<String, String>> rows = new ArrayList<>(0);
+        new TabsBytes(
+            ByteBuffer.wrap("id:x\tage:35\tname:Jeff".getBytes(StandardCharsets.UTF_8)),
+            key -> "age".equals(key)
+        ).forEach((later, row) -> rows.add(row));
+        MatcherAssert.assertThat(
+            "must keep only the wanted keys",
+            rows,
+            Matchers.contains(Collections.singletonMap("age", "35"))
+        );
+    }
+
+    private static List<Map<String, String>> rows(final String text) {
+        final List<Map<String, String>> rows = new ArrayList<>(0);
+        new TabsBytes(
+            ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8))
+        ).forEach((later, row) -> rows.add(row));
+        return rows;
+    }
+}
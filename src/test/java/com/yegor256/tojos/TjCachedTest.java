@@ -6,11 +6,14 @@ package com.yegor256.tojos;
 
 import com.yegor256.Mktmp;
 import com.yegor256.MktmpResolver;
+import com.yegor256.Together;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -87,6 +90,127 @@ final class TjCachedTest {
         );
     }
 
+    @Test
+    void selectsByIndexedAttribute(@Mktmp final Path temp) {
+        final Tojos cached = new TjCached(
+            new TjDefault(new MnTabs(temp.resolve("indexed.tabs"))), "status"
+        );
+        cached.add("a").set("status", "pending");
+        cached.add("b").set("status", "pending");
+        cached.add("c").set("status", "pending");
+        cached.select(new FtEquals("status", "pending")).get(1).set("status", "done");
+        MatcherAssert.assertThat(
+            "must find tojos by the value they have now",
+            cached.select(new FtEquals("status", "pending")).stream()
+                .map(tojo -> tojo.get(Tojos.ID_KEY))
+                .collect(Collectors.toList()),
+            Matchers.contains("a", "c")
+        );
+    }
+
+    @Test
+    void indexesTojosReadFromOrigin(@Mktmp final Path temp) {
+        final Tojos tojos = new TjDefault(new MnTabs(temp.resolve("origin.tabs")));
+        tojos.add("x").set("status", "done");
+        tojos.add("y").set("status", "new");
+        MatcherAssert.assertThat(
+            "must index tojos that were there before",
+            new TjCached(tojos, "status").select(new FtStarts("status", "d")),
+            Matchers.iterableWithSize(1)
+        );
+    }
+
+    @Test
+    void fillsConcurrentCacheOnce() {
+        final MnCounted mono = new MnCounted(new MnMemory());
+        final Tojos tojos = new TjDefault(mono);
+        tojos.add("a");
+        tojos.add("b");
+        final int start = mono.reads();
+        new TjCached(new TjSynchronized(tojos), new ConcurrentHashMap<>()).select(t -> true);
+        final int once = mono.reads() - start;
+        final int before = mono.reads();
+        final Tojos cached = new TjCached(
+            new TjSynchronized(tojos), new ConcurrentHashMap<>()
+        );
+        new Together<>(thread -> cached.select(t -> true).size()).iterator();
+        MatcherAssert.assertThat(
+            "must fill the cache only once, no matter how many threads select",
+            mono.reads() - before,
+            Matchers.equalTo(once)
+        );
+    }
+
+    @Test
+    void selectsAndSetsInParallel() {
+        final Tojos cached = new TjCached(
+            new TjSynchronized(new TjDefault(new MnMemory())),
+            new ConcurrentHashMap<>(),
+            "status"
+        );
+        MatcherAssert.assertThat(
+            "must find every tojo by its last status",
+            new Together<>(
+                thread -> {
+                    final Tojo tojo = cached.add(String.format("t%d", thread));
+                    tojo.set("status", "new");
+                    tojo.set("status", "done");
+                    return cached.select(new FtEquals("status", "done")).contains(tojo);
+                }
+            ),
+            Matchers.everyItem(Matchers.is(true))
+        );
+    }
+
+    @Test
+    void selectsAllTojosWhenBounded(@Mktmp final Path temp) {
+        final Tojos tojos = new TjDefault(new MnTabs(temp.resolve("bounded.tabs")));
+        for (int idx = 0; idx < 5; ++idx) {
+            tojos.add(String.format("t%d", idx)).set("v", idx);
+        }
+        final Tojos cached = new TjCached(tojos, 2);
+        cached.select(t -> true);
+        MatcherAssert.assertThat(
+            "must find evicted tojos too",
+            cached.select(t -> true).stream()
+                .map(tojo -> tojo.get("v"))
+                .collect(Collectors.toList()),
+            Matchers.containsInAnyOrder("0", "1", "2", "3", "4")
+        );
+    }
+
+    @Test
+    void reloadsEvictedTojoFromOrigin(@Mktmp final Path temp) {
+        final Tojos tojos = new TjDefault(new MnTabs(temp.resolve("evicted.tabs")));
+        tojos.add("a").set("status", "new");
+        tojos.add("b").set("status", "new");
+        final Tojos cached = new TjCached(tojos, 1, "status");
+        cached.select(t -> true);
+        tojos.select(t -> "a".equals(t.get(Tojos.ID_KEY))).get(0).set("status", "done");
+        MatcherAssert.assertThat(
+            "must load the evicted tojo again, as it is now",
+            cached.select(t -> "a".equals(t.get(Tojos.ID_KEY))).get(0).get("status"),
+            Matchers.equalTo("done")
+        );
+    }
+
+    @Test
+    void doesNotFindEvictedTojoByItsOldValue(@Mktmp final Path temp) {
+        final Tojos tojos = new TjDefault(new MnTabs(temp.resolve("changed.tabs")));
+        tojos.add("a").set("status", "new");
+        tojos.add("b").set("status", "new");
+        final Tojos cached = new TjCached(tojos, 1, "status");
+        cached.select(t -> true);
+        tojos.select(t -> "a".equals(t.get(Tojos.ID_KEY))).get(0).set("status", "done");
+        MatcherAssert.assertThat(
+            "must not find the evicted tojo by the value it doesn't have anymore",
+            cached.select(new FtEquals("status", "new")).stream()
+                .map(tojo -> tojo.get(Tojos.ID_KEY))
+                .collect(Collectors.toList()),
+            Matchers.contains("b")
+        );
+    }
+
     private static long timed(final Runnable task) {
         final long[] times = {System.nanoTime(), 0L};
         task.run();
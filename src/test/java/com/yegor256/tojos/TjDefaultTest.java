@@ -7,8 +7,11 @@ package com.yegor256.tojos;
 import com.yegor256.Mktmp;
 import com.yegor256.MktmpResolver;
 import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -86,4 +89,66 @@ final class TjDefaultTest {
             Matchers.equalTo(1)
         );
     }
+
+    @Test
+    void readsMonoOnceForManyAttributes() {
+        final MnCounted mono = new MnCounted(new MnMemory());
+        final Tojo tojo = new TjDefault(mono).add("x").set("a", 1).set("b", 2);
+        final int before = mono.reads();
+        tojo.get("a");
+        tojo.get("b");
+        tojo.exists("c");
+        tojo.toMap();
+        MatcherAssert.assertThat(
+            "must not read the mono again while its version stays the same",
+            mono.reads() - before,
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void findsTojoById() {
+        final Tojos tojos = new TjDefault(new MnMemory());
+        for (int row = 0; row < 10; row = row + 1) {
+            tojos.add(String.format("id-%d", row)).set("k", row);
+        }
+        MatcherAssert.assertThat(
+            "must find the tojo by its id",
+            new TjSmart(tojos).getById("id-7").get("k"),
+            Matchers.equalTo("7")
+        );
+    }
+
+    @Test
+    void selectsInParallelInOrderOfRows() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        final Tojos tojos = new TjDefault(new MnMemory(), pool, 2);
+        for (int idx = 0; idx < 20; ++idx) {
+            tojos.add(String.format("%02d", idx)).set("odd", idx % 2);
+        }
+        try {
+            MatcherAssert.assertThat(
+                "must find tojos in the order of rows",
+                tojos.select(t -> "1".equals(t.get("odd"))).stream()
+                    .map(t -> t.get(Tojos.ID_KEY))
+                    .collect(Collectors.toList()),
+                Matchers.contains(
+                    "01", "03", "05", "07", "09", "11", "13", "15", "17", "19"
+                )
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void givesReadOnlyRowsToPredicate() {
+        final Tojos tojos = new TjDefault(new MnMemory());
+        tojos.add("x");
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> tojos.select(t -> t.set("a", "b") != null),
+            "must not let the predicate change the row"
+        );
+    }
 }
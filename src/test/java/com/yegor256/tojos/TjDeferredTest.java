@@ -8,6 +8,8 @@ import com.yegor256.Mktmp;
 import com.yegor256.MktmpResolver;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -150,4 +152,23 @@ final class TjDeferredTest {
             Matchers.is(false)
         );
     }
+
+    @Test
+    void selectsInParallel() throws IOException {
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try (Tojos tojos = new TjDeferred(new MnMemory(), pool, 1)) {
+            for (int idx = 0; idx < 100; ++idx) {
+                tojos.add(String.format("t%d", idx)).set("size", idx);
+            }
+            MatcherAssert.assertThat(
+                "must find tojos that pass, in the order they were added",
+                tojos.select(t -> Integer.parseInt(t.get("size")) > 95).stream()
+                    .map(t -> t.get(Tojos.ID_KEY))
+                    .collect(Collectors.toList()),
+                Matchers.contains("t96", "t97", "t98", "t99")
+            );
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
@@ -7,11 +7,14 @@ package com.yegor256.tojos;
 import com.yegor256.Mktmp;
 import com.yegor256.MktmpResolver;
 import com.yegor256.Together;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.UUID;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -63,4 +66,35 @@ final class TjSynchronizedTest {
             Matchers.not(Matchers.hasItem(0))
         );
     }
+
+    @Test
+    void setsDifferentTojosInParallelWithStripes() throws IOException {
+        final int threads = 32;
+        try (Tojos tojos = new TjSynchronized(new TjDeferred(new MnMemory()), 8)) {
+            new Together<>(
+                threads,
+                thread -> {
+                    final Tojo tojo = tojos.add(Integer.toString(thread));
+                    for (int idx = 0; idx < 100; ++idx) {
+                        tojo.set("count", idx);
+                    }
+                    return tojo;
+                }
+            ).iterator();
+            MatcherAssert.assertThat(
+                "must keep the last value of every tojo touched in parallel",
+                tojos.select(t -> "99".equals(t.get("count"))),
+                Matchers.iterableWithSize(threads)
+            );
+        }
+    }
+
+    @Test
+    void rejectsZeroStripes() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new TjSynchronized(new TjDefault(new MnMemory()), 0),
+            "must reject less than one stripe"
+        );
+    }
 }